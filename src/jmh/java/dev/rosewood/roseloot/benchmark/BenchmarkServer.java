@@ -0,0 +1,37 @@
+package dev.rosewood.roseloot.benchmark;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import dev.rosewood.roseloot.RoseLoot;
+
+/**
+ * Provides a mock server for benchmarks, each benchmark fork runs in its own JVM so this is only started once per fork
+ */
+public final class BenchmarkServer {
+
+    private static RoseLoot plugin;
+
+    private BenchmarkServer() {
+
+    }
+
+    /**
+     * Starts the mock server if it isn't running already, required for anything that creates ItemStacks with meta
+     */
+    public static synchronized void start() {
+        if (!MockBukkit.isMocked())
+            MockBukkit.mock();
+    }
+
+    /**
+     * Starts the mock server and enables RoseLoot if it isn't enabled already, required for anything that uses a manager
+     *
+     * @return the RoseLoot instance
+     */
+    public static synchronized RoseLoot loadPlugin() {
+        start();
+        if (plugin == null)
+            plugin = MockBukkit.load(RoseLoot.class);
+        return plugin;
+    }
+
+}
@@ -0,0 +1,79 @@
+package dev.rosewood.roseloot.benchmark;
+
+import dev.rosewood.roseloot.loot.context.LootContext;
+import dev.rosewood.roseloot.loot.item.meta.ItemLootMeta;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.Material;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures applying ItemLootMeta to ItemStacks, with and without values that change per generation
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemLootMetaBenchmark {
+
+    private static final String STATIC_META = """
+            display-name: '&bA Sharp Sword'
+            lore:
+              - '&7Forged in the benchmark'
+              - '&7Never swung'
+            unbreakable: true
+            enchantments:
+              sharpness: 5
+              unbreaking: 3
+            """;
+
+    private static final String DYNAMIC_META = """
+            display-name: '&bA Sword of Luck %luck_level%'
+            lore:
+              - '&7Rolled for a luck of %luck_level%'
+            durability:
+              min: 25%
+              max: 75%
+            enchantments:
+              sharpness:
+                min: 1
+                max: 5
+              unbreaking: 3
+            """;
+
+    private ItemLootMeta staticMeta;
+    private ItemLootMeta dynamicMeta;
+    private LootContext lootContext;
+
+    @Setup
+    public void setup() throws InvalidConfigurationException {
+        BenchmarkServer.start();
+        this.staticMeta = ItemLootMeta.fromSection(Material.DIAMOND_SWORD, load(STATIC_META));
+        this.dynamicMeta = ItemLootMeta.fromSection(Material.DIAMOND_SWORD, load(DYNAMIC_META));
+        this.lootContext = LootContext.builder(1).build();
+    }
+
+    @Benchmark
+    public ItemStack applyStatic() {
+        return this.staticMeta.apply(new ItemStack(Material.DIAMOND_SWORD), this.lootContext);
+    }
+
+    @Benchmark
+    public ItemStack applyDynamic() {
+        return this.dynamicMeta.apply(new ItemStack(Material.DIAMOND_SWORD), this.lootContext);
+    }
+
+    private static YamlConfiguration load(String contents) throws InvalidConfigurationException {
+        YamlConfiguration configuration = new YamlConfiguration();
+        configuration.loadFromString(contents);
+        return configuration;
+    }
+
+}
@@ -0,0 +1,51 @@
+package dev.rosewood.roseloot.benchmark;
+
+import dev.rosewood.roseloot.loot.condition.LootCondition;
+import dev.rosewood.roseloot.loot.condition.LootConditionParser;
+import dev.rosewood.roseloot.loot.context.LootContext;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures parsing condition strings and checking the parsed conditions
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LootConditionParserBenchmark {
+
+    @Param({
+            "chance:50%",
+            "chance:50% && !world:world_nether",
+            "(chance:25% || luck-chance:10%,1%) && !(world:world_nether || world:world_the_end) && entity-type:zombie,husk"
+    })
+    public String condition;
+
+    private LootCondition parsed;
+    private LootContext lootContext;
+
+    @Setup
+    public void setup() {
+        BenchmarkServer.loadPlugin();
+        this.parsed = LootConditionParser.parse(this.condition);
+        this.lootContext = LootContext.builder().build();
+    }
+
+    @Benchmark
+    public LootCondition parse() {
+        return LootConditionParser.parse(this.condition);
+    }
+
+    @Benchmark
+    public boolean check() {
+        return this.parsed.check(this.lootContext);
+    }
+
+}
@@ -0,0 +1,73 @@
+package dev.rosewood.roseloot.benchmark;
+
+import dev.rosewood.roseloot.loot.LootContents;
+import dev.rosewood.roseloot.loot.context.LootContext;
+import dev.rosewood.roseloot.loot.item.ExperienceLootItem;
+import dev.rosewood.roseloot.loot.item.ItemLootItem;
+import dev.rosewood.roseloot.loot.item.LootItem;
+import dev.rosewood.roseloot.loot.item.SoundLootItem;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.Material;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures adding LootItems to LootContents, including merging the ones that combine
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LootContentsBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int lootItems;
+
+    private LootContext lootContext;
+    private List<LootItem> items;
+    private List<LootItem> experience;
+
+    @Setup
+    public void setup() {
+        BenchmarkServer.start();
+
+        YamlConfiguration itemSection = new YamlConfiguration();
+        itemSection.set("item", Material.DIAMOND.name().toLowerCase());
+        YamlConfiguration soundSection = new YamlConfiguration();
+        soundSection.set("sound", "entity.experience_orb.pickup");
+        YamlConfiguration experienceSection = new YamlConfiguration();
+        experienceSection.set("amount", 3);
+
+        this.items = new ArrayList<>();
+        for (int i = 0; i < this.lootItems; i++)
+            this.items.add(i % 2 == 0 ? ItemLootItem.fromSection(itemSection) : SoundLootItem.fromSection(soundSection));
+
+        this.experience = new ArrayList<>(this.lootItems);
+        for (int i = 0; i < this.lootItems; i++)
+            this.experience.add(ExperienceLootItem.fromSection(experienceSection));
+        this.lootContext = LootContext.builder().build();
+    }
+
+    @Benchmark
+    public LootContents addWithoutMerging() {
+        LootContents lootContents = new LootContents(this.lootContext);
+        lootContents.add(this.items);
+        return lootContents;
+    }
+
+    @Benchmark
+    public LootContents addWithMerging() {
+        LootContents lootContents = new LootContents(this.lootContext);
+        lootContents.add(this.experience);
+        return lootContents;
+    }
+
+}
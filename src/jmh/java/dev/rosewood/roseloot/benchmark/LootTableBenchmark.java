@@ -0,0 +1,88 @@
+package dev.rosewood.roseloot.benchmark;
+
+import dev.rosewood.roseloot.loot.LootComponent;
+import dev.rosewood.roseloot.loot.LootContents;
+import dev.rosewood.roseloot.loot.LootTable;
+import dev.rosewood.roseloot.loot.OverwriteExisting;
+import dev.rosewood.roseloot.loot.condition.LootCondition;
+import dev.rosewood.roseloot.loot.condition.tags.ChanceCondition;
+import dev.rosewood.roseloot.loot.context.LootContext;
+import dev.rosewood.roseloot.loot.item.ItemLootItem;
+import dev.rosewood.roseloot.loot.item.LootItem;
+import dev.rosewood.roseloot.loot.table.LootTableTypes;
+import dev.rosewood.roseloot.provider.NumberProvider;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.Material;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures populating a LootTable and creating its items, for tables with a growing number of components
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LootTableBenchmark {
+
+    private static final Material[] MATERIALS = { Material.DIAMOND, Material.IRON_INGOT, Material.GOLD_INGOT, Material.EMERALD, Material.COAL };
+
+    @Param({ "10", "100", "1000" })
+    public int components;
+
+    @Param({ "weighted", "unweighted" })
+    public String layout;
+
+    private LootTable lootTable;
+    private LootContext lootContext;
+
+    @Setup
+    public void setup() {
+        BenchmarkServer.start();
+
+        List<LootComponent> children = new ArrayList<>();
+        for (int i = 0; i < this.components; i++) {
+            NumberProvider weight = this.layout.equals("weighted") ? constant(1 + i % 10) : null;
+            List<LootCondition> conditions = i % 2 == 0 ? List.of(new ChanceCondition("chance:50%")) : List.of();
+            children.add(new LootComponent("child-" + i, conditions, constant(1), constant(0), weight, constant(0), List.of(createItem(MATERIALS[i % MATERIALS.length])), LootComponent.ChildrenStrategy.NORMAL, null));
+        }
+
+        NumberProvider rolls = constant(this.layout.equals("weighted") ? 5 : 1);
+        LootComponent root = new LootComponent("root", List.of(), rolls, constant(0), null, constant(0), List.of(), LootComponent.ChildrenStrategy.NORMAL, children);
+        this.lootTable = new LootTable("benchmark", LootTableTypes.LOOT_TABLE, List.of(), List.of(root), OverwriteExisting.none(), false, null);
+        this.lootContext = LootContext.builder().build();
+    }
+
+    @Benchmark
+    public LootContents populate() {
+        LootContents lootContents = new LootContents(this.lootContext);
+        this.lootTable.populate(this.lootContext, lootContents);
+        return lootContents;
+    }
+
+    @Benchmark
+    public List<ItemStack> populateAndCreateItems() {
+        return this.populate().getItems();
+    }
+
+    private static NumberProvider constant(double value) {
+        return NumberProvider.fromString(String.valueOf(value));
+    }
+
+    private static LootItem createItem(Material material) {
+        YamlConfiguration section = new YamlConfiguration();
+        section.set("item", material.name().toLowerCase());
+        section.set("amount", 2);
+        return ItemLootItem.fromSection(section);
+    }
+
+}
@@ -0,0 +1,78 @@
+package dev.rosewood.roseloot.benchmark;
+
+import dev.rosewood.roseloot.loot.context.LootContext;
+import dev.rosewood.roseloot.provider.NumberProvider;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures evaluating each kind of NumberProvider
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NumberProviderBenchmark {
+
+    private static final String CONFIGURATION = """
+            constant: 5
+            uniform:
+              min: 1
+              max: 10
+            binomial-small:
+              n: 8
+              p: 0.3
+            binomial-large:
+              n: 500
+              p: 0.4
+            placeholder: '%luck_level%'
+            """;
+
+    private NumberProvider constant, uniform, binomialSmall, binomialLarge, placeholder;
+    private LootContext lootContext;
+
+    @Setup
+    public void setup() throws InvalidConfigurationException {
+        YamlConfiguration section = new YamlConfiguration();
+        section.loadFromString(CONFIGURATION);
+        this.constant = NumberProvider.fromSection(section, "constant", 0);
+        this.uniform = NumberProvider.fromSection(section, "uniform", 0);
+        this.binomialSmall = NumberProvider.fromSection(section, "binomial-small", 0);
+        this.binomialLarge = NumberProvider.fromSection(section, "binomial-large", 0);
+        this.placeholder = NumberProvider.fromSection(section, "placeholder", 0);
+        this.lootContext = LootContext.builder(2).build();
+    }
+
+    @Benchmark
+    public int constant() {
+        return this.constant.getInteger(this.lootContext);
+    }
+
+    @Benchmark
+    public int uniform() {
+        return this.uniform.getInteger(this.lootContext);
+    }
+
+    @Benchmark
+    public int binomialSmall() {
+        return this.binomialSmall.getInteger(this.lootContext);
+    }
+
+    @Benchmark
+    public int binomialLarge() {
+        return this.binomialLarge.getInteger(this.lootContext);
+    }
+
+    @Benchmark
+    public int placeholder() {
+        return this.placeholder.getInteger(this.lootContext);
+    }
+
+}
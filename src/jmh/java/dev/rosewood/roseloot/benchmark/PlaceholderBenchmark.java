@@ -0,0 +1,57 @@
+package dev.rosewood.roseloot.benchmark;
+
+import dev.rosewood.roseloot.loot.context.LootContext;
+import dev.rosewood.roseloot.provider.StringTemplate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures rendering strings with loot placeholders, both parsed ahead of time and parsed on each render
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlaceholderBenchmark {
+
+    private static final String LITERAL = "&6A perfectly ordinary sword";
+    private static final String PLACEHOLDERS = "&7Looted with a luck of &e%luck_level%&7, worth &e%item_value% &7coins";
+
+    private LootContext lootContext;
+    private StringTemplate literalTemplate;
+    private StringTemplate placeholderTemplate;
+
+    @Setup
+    public void setup() {
+        this.lootContext = LootContext.builder(3).build();
+        this.lootContext.getPlaceholders().add("item_value", 125.5);
+        this.literalTemplate = StringTemplate.parse(LITERAL);
+        this.placeholderTemplate = StringTemplate.parse(PLACEHOLDERS);
+    }
+
+    @Benchmark
+    public String literalTemplate() {
+        return this.literalTemplate.apply(this.lootContext);
+    }
+
+    @Benchmark
+    public String placeholderTemplate() {
+        return this.placeholderTemplate.apply(this.lootContext);
+    }
+
+    @Benchmark
+    public String placeholderTemplateFormatted() {
+        return this.placeholderTemplate.format(this.lootContext);
+    }
+
+    @Benchmark
+    public String placeholdersUnparsed() {
+        return this.lootContext.getPlaceholders().apply(PLACEHOLDERS);
+    }
+
+}
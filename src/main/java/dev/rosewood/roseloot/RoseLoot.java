@@ -10,6 +10,7 @@ import dev.rosewood.roseloot.manager.CommandManager;
 import dev.rosewood.roseloot.manager.ConfigurationManager;
 import dev.rosewood.roseloot.manager.CooldownManager;
 import dev.rosewood.roseloot.manager.DataManager;
+import dev.rosewood.roseloot.manager.ItemDropManager;
 import dev.rosewood.roseloot.manager.LazyListenerManager;
 import dev.rosewood.roseloot.manager.LocaleManager;
 import dev.rosewood.roseloot.manager.LootConditionManager;
@@ -60,7 +61,8 @@ public class RoseLoot extends RosePlugin {
                 LootConditionManager.class,
                 LootTableManager.class,
                 LazyListenerManager.class,
-                CooldownManager.class
+                CooldownManager.class,
+                ItemDropManager.class
         );
     }
 
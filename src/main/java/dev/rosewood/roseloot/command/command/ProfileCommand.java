@@ -0,0 +1,211 @@
+package dev.rosewood.roseloot.command.command;
+
+import dev.rosewood.rosegarden.RosePlugin;
+import dev.rosewood.rosegarden.command.framework.CommandContext;
+import dev.rosewood.rosegarden.command.framework.RoseCommand;
+import dev.rosewood.rosegarden.command.framework.RoseCommandWrapper;
+import dev.rosewood.rosegarden.command.framework.RoseSubCommand;
+import dev.rosewood.rosegarden.command.framework.annotation.Optional;
+import dev.rosewood.rosegarden.command.framework.annotation.RoseExecutable;
+import dev.rosewood.rosegarden.utils.StringPlaceholders;
+import dev.rosewood.roseloot.loot.LootProfiler;
+import dev.rosewood.roseloot.loot.LootTracer;
+import dev.rosewood.roseloot.manager.LocaleManager;
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.logging.Level;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+public class ProfileCommand extends RoseCommand {
+
+    private static BukkitTask stopTask;
+
+    public ProfileCommand(RosePlugin rosePlugin, RoseCommandWrapper parent) {
+        super(rosePlugin, parent);
+    }
+
+    @RoseExecutable
+    public void execute(CommandContext context, RoseSubCommand command) {
+
+    }
+
+    public static class ProfileStartCommand extends RoseSubCommand {
+
+        public ProfileStartCommand(RosePlugin rosePlugin, RoseCommandWrapper parent) {
+            super(rosePlugin, parent);
+        }
+
+        @RoseExecutable
+        public void execute(CommandContext context, @Optional Integer seconds) {
+            LocaleManager localeManager = this.rosePlugin.getManager(LocaleManager.class);
+
+            cancelStopTask();
+            LootProfiler.start();
+            if (seconds != null && seconds > 0)
+                stopTask = Bukkit.getScheduler().runTaskLater(this.rosePlugin, () -> {
+                    stopTask = null;
+                    LootProfiler.stop();
+                }, seconds * 20L);
+
+            localeManager.sendMessage(context.getSender(), "command-profile-started");
+        }
+
+        @Override
+        protected String getDefaultName() {
+            return "start";
+        }
+
+    }
+
+    public static class ProfileStopCommand extends RoseSubCommand {
+
+        public ProfileStopCommand(RosePlugin rosePlugin, RoseCommandWrapper parent) {
+            super(rosePlugin, parent);
+        }
+
+        @RoseExecutable
+        public void execute(CommandContext context) {
+            LocaleManager localeManager = this.rosePlugin.getManager(LocaleManager.class);
+
+            if (!LootProfiler.isEnabled()) {
+                localeManager.sendMessage(context.getSender(), "command-profile-not-running");
+                return;
+            }
+
+            cancelStopTask();
+            LootProfiler.stop();
+            localeManager.sendMessage(context.getSender(), "command-profile-stopped", StringPlaceholders.of(
+                    "duration", formatSeconds(LootProfiler.getSampleDuration())
+            ));
+        }
+
+        @Override
+        protected String getDefaultName() {
+            return "stop";
+        }
+
+    }
+
+    public static class ProfileViewCommand extends RoseSubCommand {
+
+        public ProfileViewCommand(RosePlugin rosePlugin, RoseCommandWrapper parent) {
+            super(rosePlugin, parent);
+        }
+
+        @RoseExecutable
+        public void execute(CommandContext context, @Optional LootProfiler.Category category, @Optional LootProfiler.Sort sort, @Optional Integer amount) {
+            LocaleManager localeManager = this.rosePlugin.getManager(LocaleManager.class);
+
+            if (category == null)
+                category = LootProfiler.Category.LOOT_TABLE;
+            if (sort == null)
+                sort = LootProfiler.Sort.TOTAL_TIME;
+            if (amount == null || amount <= 0)
+                amount = 10;
+
+            List<LootProfiler.Result> results = LootProfiler.getResults(category, sort, amount);
+            if (results.isEmpty()) {
+                localeManager.sendMessage(context.getSender(), "command-profile-none");
+                return;
+            }
+
+            localeManager.sendMessage(context.getSender(), "command-profile-header", StringPlaceholders.of(
+                    "amount", results.size(),
+                    "category", category.name().toLowerCase(),
+                    "sort", sort.name().toLowerCase(),
+                    "duration", formatSeconds(LootProfiler.getSampleDuration())
+            ));
+
+            for (LootProfiler.Result result : results) {
+                localeManager.sendSimpleMessage(context.getSender(), "command-profile-entry", StringPlaceholders.builder("name", result.name())
+                        .add("invocations", result.invocations())
+                        .add("pass_rate", String.format("%.1f", result.getPassRate()))
+                        .add("total", String.format("%.2f", result.totalNanos() / 1_000_000.0))
+                        .add("average", String.format("%.1f", result.getAverageNanos() / 1_000.0))
+                        .add("max", String.format("%.1f", result.maxNanos() / 1_000.0))
+                        .add("allocated", String.format("%.1f", result.allocatedBytes() / 1024.0))
+                        .build());
+            }
+        }
+
+        @Override
+        protected String getDefaultName() {
+            return "view";
+        }
+
+    }
+
+    public static class ProfileDumpCommand extends RoseSubCommand {
+
+        public ProfileDumpCommand(RosePlugin rosePlugin, RoseCommandWrapper parent) {
+            super(rosePlugin, parent);
+        }
+
+        @RoseExecutable
+        public void execute(CommandContext context) {
+            LocaleManager localeManager = this.rosePlugin.getManager(LocaleManager.class);
+
+            if (LootTracer.getTraces().isEmpty()) {
+                localeManager.sendMessage(context.getSender(), "command-profile-dump-none");
+                return;
+            }
+
+            String fileName = "slow-loot-" + new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date()) + ".txt";
+            File file = new File(new File(this.rosePlugin.getDataFolder(), "traces"), fileName);
+            Bukkit.getScheduler().runTaskAsynchronously(this.rosePlugin, () -> {
+                try {
+                    int amount = LootTracer.dump(file);
+                    localeManager.sendMessage(context.getSender(), "command-profile-dump-success", StringPlaceholders.of(
+                            "amount", amount,
+                            "file", "traces/" + fileName
+                    ));
+                } catch (IOException e) {
+                    this.rosePlugin.getLogger().log(Level.WARNING, "Failed to write slow loot traces", e);
+                    localeManager.sendMessage(context.getSender(), "command-profile-dump-failed");
+                }
+            });
+        }
+
+        @Override
+        protected String getDefaultName() {
+            return "dump";
+        }
+
+    }
+
+    private static void cancelStopTask() {
+        if (stopTask != null) {
+            stopTask.cancel();
+            stopTask = null;
+        }
+    }
+
+    private static String formatSeconds(long millis) {
+        return String.format("%.1f", millis / 1000.0);
+    }
+
+    @Override
+    protected String getDefaultName() {
+        return "profile";
+    }
+
+    @Override
+    protected List<String> getDefaultAliases() {
+        return List.of();
+    }
+
+    @Override
+    public String getDescriptionKey() {
+        return "command-profile-description";
+    }
+
+    @Override
+    public String getRequiredPermission() {
+        return "roseloot.profile";
+    }
+
+}
@@ -0,0 +1,42 @@
+package dev.rosewood.roseloot.database.migrations;
+
+import dev.rosewood.rosegarden.database.DataMigration;
+import dev.rosewood.rosegarden.database.DatabaseConnector;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Global cooldowns have no player, they are stored with an empty player so they still fit the primary key.
+ * Also indexes the expiration time so expired cooldowns can be deleted without scanning the whole table.
+ */
+public class _2_Support_Global_Cooldowns extends DataMigration {
+
+    public _2_Support_Global_Cooldowns() {
+        super(2);
+    }
+
+    @Override
+    public void migrate(DatabaseConnector connector, Connection connection, String tablePrefix) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("CREATE TABLE " + tablePrefix + "cooldowns_new (id VARCHAR(255) NOT NULL, player VARCHAR(36) NOT NULL DEFAULT '', expiration BIGINT NOT NULL, PRIMARY KEY (id, player))")) {
+            statement.executeUpdate();
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO " + tablePrefix + "cooldowns_new (id, player, expiration) SELECT id, player, expiration FROM " + tablePrefix + "cooldowns")) {
+            statement.executeUpdate();
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement("DROP TABLE " + tablePrefix + "cooldowns")) {
+            statement.executeUpdate();
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement("ALTER TABLE " + tablePrefix + "cooldowns_new RENAME TO " + tablePrefix + "cooldowns")) {
+            statement.executeUpdate();
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement("CREATE INDEX " + tablePrefix + "cooldowns_expiration ON " + tablePrefix + "cooldowns (expiration)")) {
+            statement.executeUpdate();
+        }
+    }
+
+}
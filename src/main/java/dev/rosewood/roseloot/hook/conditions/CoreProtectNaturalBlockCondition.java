@@ -2,6 +2,7 @@ package dev.rosewood.roseloot.hook.conditions;
 
 import dev.rosewood.roseloot.hook.CoreProtectRecentBlockHook;
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import java.util.List;
@@ -9,7 +10,7 @@ import java.util.Optional;
 import net.coreprotect.CoreProtect;
 import org.bukkit.block.Block;
 
-public class CoreProtectNaturalBlockCondition extends BaseLootCondition {
+public class CoreProtectNaturalBlockCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     public CoreProtectNaturalBlockCondition(String tag) {
         super(tag);
@@ -29,6 +30,11 @@ public class CoreProtectNaturalBlockCondition extends BaseLootCondition {
         return history == null || history.isEmpty();
     }
 
+    @Override
+    public Cost getCost() {
+        return Cost.EXPENSIVE;
+    }
+
     @Override
     public boolean parseValues(String[] values) {
         return values.length == 0;
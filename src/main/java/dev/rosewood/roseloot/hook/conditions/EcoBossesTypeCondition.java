@@ -1,6 +1,7 @@
 package dev.rosewood.roseloot.hook.conditions;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import java.util.ArrayList;
@@ -11,7 +12,7 @@ import org.bukkit.entity.LivingEntity;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.plugin.Plugin;
 
-public class EcoBossesTypeCondition extends BaseLootCondition {
+public class EcoBossesTypeCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private final NamespacedKey bossKey;
     private List<String> types;
@@ -59,12 +59,12 @@ public class HookConditionListener implements Listener {
         // Register conditions for custom item plugins
         for (CustomItemPlugin customItemPlugin : CustomItemPlugin.values())
             if (customItemPlugin.isEnabled() && customItemPlugin.supportsIdLookup())
-                event.registerLootCondition(customItemPlugin.name().toLowerCase() + customItemPlugin.getConditionSuffix() + "-type", tag -> new StringLootCondition(tag, customItemPlugin.getLootConditionPredicate()));
+                event.registerLootCondition(customItemPlugin.name().toLowerCase() + customItemPlugin.getConditionSuffix() + "-type", tag -> new StringLootCondition(tag, customItemPlugin.getLootConditionPredicate(), true));
 
         // Register conditions for custom biome plugins
         for (CustomBiomePlugin customBiomePlugin : CustomBiomePlugin.values())
             if (customBiomePlugin.isEnabled())
-                event.registerLootCondition(customBiomePlugin.name().toLowerCase() + "-biome", tag -> new StringLootCondition(tag, customBiomePlugin.getLootConditionPredicate()));
+                event.registerLootCondition(customBiomePlugin.name().toLowerCase() + "-biome", tag -> new StringLootCondition(tag, customBiomePlugin.getLootConditionPredicate(), true));
     }
 
 }
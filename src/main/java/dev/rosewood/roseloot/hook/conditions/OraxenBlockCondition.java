@@ -2,11 +2,12 @@ package dev.rosewood.roseloot.hook.conditions;
 
 import dev.rosewood.roseloot.listener.hook.OraxenBlockBreakListener;
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import java.util.Arrays;
 import java.util.List;
 
-public class OraxenBlockCondition extends BaseLootCondition {
+public class OraxenBlockCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private List<String> blockTypes;
 
@@ -21,6 +22,11 @@ public class OraxenBlockCondition extends BaseLootCondition {
                 .isPresent();
     }
 
+    @Override
+    public Cost getCost() {
+        return Cost.CHEAP;
+    }
+
     @Override
     public boolean parseValues(String[] values) {
         this.blockTypes = Arrays.asList(values);
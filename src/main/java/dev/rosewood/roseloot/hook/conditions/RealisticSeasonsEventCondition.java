@@ -1,6 +1,7 @@
 package dev.rosewood.roseloot.hook.conditions;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import java.util.List;
@@ -8,7 +9,7 @@ import java.util.stream.Stream;
 import me.casperge.realisticseasons.RealisticSeasons;
 import org.bukkit.Location;
 
-public class RealisticSeasonsEventCondition extends BaseLootCondition {
+public class RealisticSeasonsEventCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private List<String> events;
 
@@ -1,6 +1,7 @@
 package dev.rosewood.roseloot.hook.conditions;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import java.util.List;
@@ -9,7 +10,7 @@ import me.casperge.realisticseasons.api.SeasonsAPI;
 import me.casperge.realisticseasons.season.Season;
 import org.bukkit.Location;
 
-public class RealisticSeasonsSeasonCondition extends BaseLootCondition {
+public class RealisticSeasonsSeasonCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private List<String> seasons;
 
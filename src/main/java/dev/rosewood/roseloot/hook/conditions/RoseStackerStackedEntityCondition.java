@@ -2,9 +2,10 @@ package dev.rosewood.roseloot.hook.conditions;
 
 import dev.rosewood.roseloot.listener.hook.RoseStackerEntityDeathListener;
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 
-public class RoseStackerStackedEntityCondition extends BaseLootCondition {
+public class RoseStackerStackedEntityCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     public RoseStackerStackedEntityCondition(String tag) {
         super(tag);
@@ -3,11 +3,12 @@ package dev.rosewood.roseloot.hook.conditions.nbt;
 import de.tr7zw.nbtapi.NBTCompound;
 import de.tr7zw.nbtapi.NBTType;
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.condition.Operator;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import java.util.Arrays;
 
-public abstract class NBTCondition extends BaseLootCondition {
+public abstract class NBTCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private String path, right;
     private Operator operator;
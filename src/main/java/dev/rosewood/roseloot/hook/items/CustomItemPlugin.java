@@ -47,6 +47,10 @@ public enum CustomItemPlugin {
         return this.itemProvider.get().supportsIdLookup();
     }
 
+    public boolean hasStaticItems() {
+        return this.itemProvider.get().hasStaticItems();
+    }
+
     public String getConditionSuffix() {
         return this.itemProvider.get().getConditionSuffix();
     }
@@ -18,4 +18,9 @@ public class ItemEditItemProvider extends ItemProvider {
         return ItemEdit.get().getServerStorage().getItem(id);
     }
 
+    @Override
+    public boolean hasStaticItems() {
+        return true;
+    }
+
 }
@@ -41,6 +41,15 @@ public abstract class ItemProvider {
      */
     public abstract ItemStack getItem(LootContext context, String id);
 
+    /**
+     * Providers with static items always return an identical ItemStack for the same item ID, so it can be cached
+     *
+     * @return true if the items of this provider never change between lookups, false otherwise
+     */
+    public boolean hasStaticItems() {
+        return false;
+    }
+
     /**
      * Gets the item ID for the given ItemStack.
      *
@@ -22,6 +22,11 @@ public class ItemsAdderItemProvider extends ItemProvider {
         return customStack.getItemStack();
     }
 
+    @Override
+    public boolean hasStaticItems() {
+        return true;
+    }
+
     @Override
     public String getItemId(ItemStack item) {
         if (!this.isEnabled())
@@ -23,6 +23,11 @@ public class OraxenItemProvider extends ItemProvider {
         return itemBuilder.build();
     }
 
+    @Override
+    public boolean hasStaticItems() {
+        return true;
+    }
+
     @Override
     public String getItemId(ItemStack item) {
         if (!this.isEnabled())
@@ -22,6 +22,11 @@ public class SlimefunItemProvider extends ItemProvider {
         return item.getItem().clone();
     }
 
+    @Override
+    public boolean hasStaticItems() {
+        return true;
+    }
+
     @Override
     public String getItemId(ItemStack item) {
         if (!this.isEnabled())
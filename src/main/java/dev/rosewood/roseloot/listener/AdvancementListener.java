@@ -6,7 +6,6 @@ import dev.rosewood.roseloot.loot.LootResult;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import dev.rosewood.roseloot.loot.table.LootTableTypes;
-import dev.rosewood.roseloot.manager.ConfigurationManager;
 import dev.rosewood.roseloot.util.LootUtils;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -22,7 +21,7 @@ public class AdvancementListener extends LazyLootTableListener {
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onAdvancementDone(PlayerAdvancementDoneEvent event) {
         Player player = event.getPlayer();
-        if (ConfigurationManager.Setting.DISABLED_WORLDS.getStringList().stream().anyMatch(x -> x.equalsIgnoreCase(player.getWorld().getName())))
+        if (!LOOT_TABLE_MANAGER.canGenerateLoot(LootTableTypes.ADVANCEMENT, player.getWorld()))
             return;
 
         LootContext lootContext = LootContext.builder(LootUtils.getEntityLuck(player))
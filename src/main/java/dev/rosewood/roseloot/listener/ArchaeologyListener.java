@@ -8,7 +8,6 @@ import dev.rosewood.roseloot.loot.OverwriteExisting;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import dev.rosewood.roseloot.loot.table.LootTableTypes;
-import dev.rosewood.roseloot.manager.ConfigurationManager;
 import dev.rosewood.roseloot.util.EntitySpawnUtil;
 import dev.rosewood.roseloot.util.LootUtils;
 import java.util.ArrayList;
@@ -49,7 +48,7 @@ public class ArchaeologyListener extends LazyLootTableListener {
         if (itemUsed == null || itemUsed.getType() != Material.BRUSH)
             return;
 
-        if (ConfigurationManager.Setting.DISABLED_WORLDS.getStringList().stream().anyMatch(x -> x.equalsIgnoreCase(block.getWorld().getName())))
+        if (!LOOT_TABLE_MANAGER.canGenerateLoot(LootTableTypes.ARCHAEOLOGY, block.getWorld()))
             return;
 
         Player player = event.getPlayer();
@@ -3,24 +3,32 @@ package dev.rosewood.roseloot.listener;
 import dev.rosewood.rosegarden.RosePlugin;
 import dev.rosewood.roseloot.hook.CoreProtectRecentBlockHook;
 import dev.rosewood.roseloot.listener.helper.LazyLootTableListener;
+import dev.rosewood.roseloot.loot.BatchLootResult;
 import dev.rosewood.roseloot.loot.ExplosionType;
 import dev.rosewood.roseloot.loot.LootContents;
 import dev.rosewood.roseloot.loot.LootResult;
 import dev.rosewood.roseloot.loot.OverwriteExisting;
+import dev.rosewood.roseloot.loot.PreparedLoot;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import dev.rosewood.roseloot.loot.table.LootTableTypes;
 import dev.rosewood.roseloot.manager.ConfigurationManager.Setting;
+import dev.rosewood.roseloot.manager.ItemDropManager;
 import dev.rosewood.roseloot.util.EntitySpawnUtil;
 import dev.rosewood.roseloot.util.LootUtils;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.Creeper;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
@@ -50,7 +58,7 @@ public class BlockListener extends LazyLootTableListener {
             return;
 
         Block block = event.getBlock();
-        if (Setting.DISABLED_WORLDS.getStringList().stream().anyMatch(x -> x.equalsIgnoreCase(block.getWorld().getName())))
+        if (!LOOT_TABLE_MANAGER.canGenerateLoot(LootTableTypes.BLOCK, block.getWorld()))
             return;
 
         Player player = event.getPlayer();
@@ -75,11 +83,18 @@ public class BlockListener extends LazyLootTableListener {
 
         // Drop items and experience
         Location dropLocation = block.getLocation();
-        List<Item> droppedItems = new ArrayList<>();
-        lootContents.getItems().forEach(x -> droppedItems.add(block.getWorld().dropItemNaturally(dropLocation, x)));
+        if (!Setting.SIMULATE_BLOCKDROPITEMEVENT.getBoolean()) {
+            ItemDropManager itemDropManager = this.rosePlugin.getManager(ItemDropManager.class);
+            lootContents.getItems().forEach(x -> itemDropManager.dropItemNaturally(dropLocation, x));
+        }
 
         // Simulate a BlockDropItemEvent for each item dropped for better custom enchantment plugin support if enabled
-        if (!droppedItems.isEmpty() && Setting.SIMULATE_BLOCKDROPITEMEVENT.getBoolean()) {
+        // The event needs the item entities right away, so these drops are never merged
+        List<Item> droppedItems = new ArrayList<>();
+        if (Setting.SIMULATE_BLOCKDROPITEMEVENT.getBoolean())
+            lootContents.getItems().forEach(x -> droppedItems.add(block.getWorld().dropItemNaturally(dropLocation, x)));
+
+        if (!droppedItems.isEmpty()) {
             List<Item> eventItems = new ArrayList<>(droppedItems);
             BlockDropItemEvent blockDropItemEvent = new BlockDropItemEvent(block, block.getState(), player, eventItems);
             Bukkit.getPluginManager().callEvent(blockDropItemEvent);
@@ -106,36 +121,67 @@ public class BlockListener extends LazyLootTableListener {
             return;
 
         Block block = event.getBlock();
-        if (Setting.DISABLED_WORLDS.getStringList().stream().anyMatch(x -> x.equalsIgnoreCase(block.getWorld().getName())))
+        if (!LOOT_TABLE_MANAGER.canGenerateLoot(LootTableTypes.BLOCK, block.getWorld()))
             return;
 
         LootContext lootContext = LootContext.builder()
                 .put(LootContextParams.ORIGIN, block.getLocation())
                 .put(LootContextParams.LOOTED_BLOCK, block)
                 .build();
-        LootResult lootResult = LOOT_TABLE_MANAGER.getLoot(LootTableTypes.BLOCK, lootContext);
+        LootResult lootResult;
+        if (LOOT_TABLE_MANAGER.isAsyncLootGenerationEnabled()) {
+            PreparedLoot preparedLoot = LOOT_TABLE_MANAGER.prepareLoot(LootTableTypes.BLOCK, lootContext);
+            if (LOOT_TABLE_MANAGER.canPopulateAsync(preparedLoot)) {
+                // The drops show up a tick later, so the existing drops need to be overwritten right away
+                lootContext.snapshot(); // Capture the leaves before they are removed
+                if (preparedLoot.doesOverwriteExisting(OverwriteExisting.ITEMS) && !this.overwriteLeavesDecay(event, block))
+                    return;
+
+                LOOT_TABLE_MANAGER.populateLootAsync(preparedLoot, result -> this.dropLeavesDecayLoot(block, result.getLootContents()));
+                return;
+            }
+
+            lootResult = LOOT_TABLE_MANAGER.populateLoot(preparedLoot);
+        } else {
+            lootResult = LOOT_TABLE_MANAGER.getLoot(LootTableTypes.BLOCK, lootContext);
+        }
+
         if (lootResult.isEmpty())
             return;
 
-        LootContents lootContents = lootResult.getLootContents();
-
         // Overwrite existing drops if applicable
-        if (lootResult.doesOverwriteExisting(OverwriteExisting.ITEMS)) {
-            if (Setting.SIMULATE_LEAVESDECAYEVENT.getBoolean()) {
-                LootedLeavesDecayEvent lootedEvent = new LootedLeavesDecayEvent(block);
-                Bukkit.getPluginManager().callEvent(lootedEvent);
-                if (lootedEvent.isCancelled()) {
-                    event.setCancelled(true);
-                    return;
-                }
+        if (lootResult.doesOverwriteExisting(OverwriteExisting.ITEMS) && !this.overwriteLeavesDecay(event, block))
+            return;
+
+        this.dropLeavesDecayLoot(block, lootResult.getLootContents());
+    }
+
+    /**
+     * Cancels a LeavesDecayEvent and removes the leaves so they don't drop their existing items
+     *
+     * @param event The LeavesDecayEvent
+     * @param block The decaying leaves
+     * @return false if a simulated LeavesDecayEvent was cancelled and no loot should be dropped
+     */
+    private boolean overwriteLeavesDecay(LeavesDecayEvent event, Block block) {
+        if (Setting.SIMULATE_LEAVESDECAYEVENT.getBoolean()) {
+            LootedLeavesDecayEvent lootedEvent = new LootedLeavesDecayEvent(block);
+            Bukkit.getPluginManager().callEvent(lootedEvent);
+            if (lootedEvent.isCancelled()) {
+                event.setCancelled(true);
+                return false;
             }
-            event.setCancelled(true);
-            block.setType(Material.AIR);
         }
+        event.setCancelled(true);
+        block.setType(Material.AIR);
+        return true;
+    }
 
+    private void dropLeavesDecayLoot(Block block, LootContents lootContents) {
         // Drop items and experience
         Location dropLocation = block.getLocation();
-        lootContents.getItems().forEach(x -> block.getWorld().dropItemNaturally(dropLocation, x));
+        ItemDropManager itemDropManager = this.rosePlugin.getManager(ItemDropManager.class);
+        lootContents.getItems().forEach(x -> itemDropManager.dropItemNaturally(dropLocation, x));
 
         int experience = lootContents.getExperience();
         if (experience > 0)
@@ -150,40 +196,15 @@ public class BlockListener extends LazyLootTableListener {
             return;
 
         Block block = event.getBlock();
-        if (Setting.DISABLED_WORLDS.getStringList().stream().anyMatch(x -> x.equalsIgnoreCase(block.getWorld().getName())))
+        if (!LOOT_TABLE_MANAGER.canGenerateLoot(LootTableTypes.BLOCK, block.getWorld()))
             return;
 
-        Iterator<Block> iterator = event.blockList().iterator();
-        while (iterator.hasNext()) {
-            Block exploded = iterator.next();
-
-            LootContext lootContext = LootContext.builder()
-                    .put(LootContextParams.ORIGIN, exploded.getLocation())
-                    .put(LootContextParams.LOOTED_BLOCK, exploded)
-                    .put(LootContextParams.EXPLOSION_TYPE, ExplosionType.BLOCK)
-                    .put(LootContextParams.HAS_EXISTING_ITEMS, !exploded.getDrops().isEmpty())
-                    .build();
-            LootResult lootResult = LOOT_TABLE_MANAGER.getLoot(LootTableTypes.BLOCK, lootContext);
-            if (lootResult.isEmpty())
-                continue;
-
-            LootContents lootContents = lootResult.getLootContents();
-
-            if (lootResult.doesOverwriteExisting(OverwriteExisting.ITEMS)) {
-                iterator.remove();
-                exploded.setType(Material.AIR);
-            }
-
-            // Drop items and experience
-            Location dropLocation = exploded.getLocation();
-            lootContents.getItems().forEach(x -> exploded.getWorld().dropItemNaturally(dropLocation, x));
-
-            int experience = lootContents.getExperience();
-            if (experience > 0)
-                EntitySpawnUtil.spawn(dropLocation, ExperienceOrb.class, x -> x.setExperience(experience));
-
-            lootContents.triggerExtras(dropLocation);
-        }
+        this.generateExplosionLoot(event.blockList(), (exploded, hasExistingItems) -> LootContext.builder()
+                .put(LootContextParams.ORIGIN, exploded.getLocation())
+                .put(LootContextParams.LOOTED_BLOCK, exploded)
+                .put(LootContextParams.EXPLOSION_TYPE, ExplosionType.BLOCK)
+                .put(LootContextParams.HAS_EXISTING_ITEMS, hasExistingItems)
+                .build());
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
@@ -192,7 +213,7 @@ public class BlockListener extends LazyLootTableListener {
             return;
 
         Entity looter = event.getEntity();
-        if (Setting.DISABLED_WORLDS.getStringList().stream().anyMatch(x -> x.equalsIgnoreCase(event.getEntity().getWorld().getName())))
+        if (!LOOT_TABLE_MANAGER.canGenerateLoot(LootTableTypes.BLOCK, event.getEntity().getWorld()))
             return;
 
         if (looter instanceof TNTPrimed tnt) {
@@ -207,33 +228,77 @@ public class BlockListener extends LazyLootTableListener {
             }
         }
 
+        Entity finalLooter = looter;
+        double luck = LootUtils.getEntityLuck(looter);
         ExplosionType explosionType = looter instanceof Creeper creeper && creeper.isPowered() ? ExplosionType.CHARGED_ENTITY : ExplosionType.ENTITY;
-        Iterator<Block> iterator = event.blockList().iterator();
-        while (iterator.hasNext()) {
-            Block exploded = iterator.next();
-
-            LootContext lootContext = LootContext.builder(LootUtils.getEntityLuck(looter))
-                    .put(LootContextParams.ORIGIN, exploded.getLocation())
-                    .put(LootContextParams.LOOTER, looter)
-                    .put(LootContextParams.LOOTED_BLOCK, exploded)
-                    .put(LootContextParams.EXPLOSION_TYPE, explosionType)
-                    .put(LootContextParams.HAS_EXISTING_ITEMS, !exploded.getDrops().isEmpty())
-                    .build();
-            LootResult lootResult = LOOT_TABLE_MANAGER.getLoot(LootTableTypes.BLOCK, lootContext);
-            if (lootResult.isEmpty())
-                continue;
+        this.generateExplosionLoot(event.blockList(), (exploded, hasExistingItems) -> LootContext.builder(luck)
+                .put(LootContextParams.ORIGIN, exploded.getLocation())
+                .put(LootContextParams.LOOTER, finalLooter)
+                .put(LootContextParams.LOOTED_BLOCK, exploded)
+                .put(LootContextParams.EXPLOSION_TYPE, explosionType)
+                .put(LootContextParams.HAS_EXISTING_ITEMS, hasExistingItems)
+                .build());
+    }
 
-            LootContents lootContents = lootResult.getLootContents();
+    /**
+     * Generates loot for the blocks destroyed by an explosion.
+     * <br>
+     * Blocks are grouped by their block data and the 16x16x16 section they are in. Groups whose loot tables can be
+     * batched generate all of their loot at once and drop it at a single block of the group, other groups still
+     * generate loot for each block. Batched groups look up whether they have existing drops from their first block
+     * only, blocks with random drops that aren't batched still look it up for themselves.
+     *
+     * @param blockList The blocks destroyed by the explosion, blocks whose drops are overwritten are removed from it
+     * @param contextFunction Creates the LootContext for a block and whether it has existing drops
+     */
+    private void generateExplosionLoot(List<Block> blockList, BiFunction<Block, Boolean, LootContext> contextFunction) {
+        Map<ExplodedBlockGroup, List<Block>> groups = new LinkedHashMap<>();
+        for (Block exploded : blockList)
+            groups.computeIfAbsent(new ExplodedBlockGroup(exploded.getBlockData(), exploded.getX() >> 4, exploded.getY() >> 4, exploded.getZ() >> 4), x -> new ArrayList<>()).add(exploded);
+
+        Set<Block> overwritten = new HashSet<>();
+        for (Map.Entry<ExplodedBlockGroup, List<Block>> entry : groups.entrySet()) {
+            List<Block> blocks = entry.getValue();
+            Block first = blocks.get(0);
+            LootContext contextTemplate = contextFunction.apply(first, !first.getDrops().isEmpty());
+            if (blocks.size() > 1 && LOOT_TABLE_MANAGER.canBatch(LootTableTypes.BLOCK, contextTemplate)) {
+                BatchLootResult lootResult = LOOT_TABLE_MANAGER.getLootBatch(LootTableTypes.BLOCK, contextTemplate, blocks.size());
+                if (lootResult.isEmpty())
+                    continue;
+
+                for (int run = 0; run < blocks.size(); run++) {
+                    if (lootResult.doesOverwriteExisting(OverwriteExisting.ITEMS, run)) {
+                        Block exploded = blocks.get(run);
+                        overwritten.add(exploded);
+                        exploded.setType(Material.AIR);
+                    }
+                }
 
-            if (lootResult.doesOverwriteExisting(OverwriteExisting.ITEMS)) {
-                iterator.remove();
-                exploded.setType(Material.AIR);
+                lootResult.getLootContents().dropAtLocation(first.getLocation());
+                continue;
             }
 
-            lootContents.dropAtLocation(exploded.getLocation());
+            for (Block exploded : blocks) {
+                LootContext lootContext = exploded == first ? contextTemplate : contextFunction.apply(exploded, !exploded.getDrops().isEmpty());
+                LootResult lootResult = LOOT_TABLE_MANAGER.getLoot(LootTableTypes.BLOCK, lootContext);
+                if (lootResult.isEmpty())
+                    continue;
+
+                if (lootResult.doesOverwriteExisting(OverwriteExisting.ITEMS)) {
+                    overwritten.add(exploded);
+                    exploded.setType(Material.AIR);
+                }
+
+                lootResult.getLootContents().dropAtLocation(exploded.getLocation());
+            }
         }
+
+        if (!overwritten.isEmpty())
+            blockList.removeIf(overwritten::contains);
     }
 
+    private record ExplodedBlockGroup(BlockData blockData, int sectionX, int sectionY, int sectionZ) { }
+
     private static class LootedLeavesDecayEvent extends LeavesDecayEvent {
 
         public LootedLeavesDecayEvent(Block block) {
@@ -8,7 +8,6 @@ import dev.rosewood.roseloot.loot.OverwriteExisting;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import dev.rosewood.roseloot.loot.table.LootTableTypes;
-import dev.rosewood.roseloot.manager.ConfigurationManager.Setting;
 import dev.rosewood.roseloot.util.LootUtils;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
@@ -62,7 +61,7 @@ public class EntityDropItemListener extends LazyLootTableListener {
         if (!(event.getEntity() instanceof LivingEntity entity))
             return;
 
-        if (Setting.DISABLED_WORLDS.getStringList().stream().anyMatch(x -> x.equalsIgnoreCase(entity.getWorld().getName())))
+        if (!LOOT_TABLE_MANAGER.canGenerateLoot(LootTableTypes.ENTITY_DROP_ITEM, entity.getWorld()))
             return;
 
         Player shearer = switch (entity.getType()) {
@@ -8,7 +8,7 @@ import dev.rosewood.roseloot.loot.OverwriteExisting;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import dev.rosewood.roseloot.loot.table.LootTableTypes;
-import dev.rosewood.roseloot.manager.ConfigurationManager.Setting;
+import dev.rosewood.roseloot.manager.ItemDropManager;
 import dev.rosewood.roseloot.util.LootUtils;
 import java.util.ArrayList;
 import java.util.List;
@@ -35,7 +35,7 @@ public class FishingListener extends LazyLootTableListener {
 
         Player player = event.getPlayer();
         FishHook fishHook = event.getHook();
-        if (Setting.DISABLED_WORLDS.getStringList().stream().anyMatch(x -> x.equalsIgnoreCase(fishHook.getWorld().getName())))
+        if (!LOOT_TABLE_MANAGER.canGenerateLoot(LootTableTypes.FISHING, fishHook.getWorld()))
             return;
 
         LootContext lootContext = LootContext.builder(LootUtils.getEntityLuck(player, true))
@@ -74,7 +74,8 @@ public class FishingListener extends LazyLootTableListener {
             double y = player.getLocation().getY() - fishHook.getLocation().getY();
             double z = player.getLocation().getZ() - fishHook.getLocation().getZ();
             Vector motion = new Vector(x * 0.1, y * 0.1 + Math.sqrt(Math.sqrt(x * x + y * y + z * z)) * 0.08, z * 0.1);
-            items.stream().map(itemStack -> fishHook.getWorld().dropItem(fishHook.getLocation(), itemStack)).forEach(item -> item.setVelocity(motion));
+            ItemDropManager itemDropManager = this.rosePlugin.getManager(ItemDropManager.class);
+            items.forEach(itemStack -> itemDropManager.dropItem(fishHook.getLocation(), itemStack, motion));
         }
 
         event.setExpToDrop(event.getExpToDrop() + lootContents.getExperience());
@@ -8,7 +8,6 @@ import dev.rosewood.roseloot.loot.OverwriteExisting;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import dev.rosewood.roseloot.loot.table.LootTableTypes;
-import dev.rosewood.roseloot.manager.ConfigurationManager;
 import dev.rosewood.roseloot.util.EntitySpawnUtil;
 import dev.rosewood.roseloot.util.LootUtils;
 import java.util.ArrayList;
@@ -30,7 +29,7 @@ public class HarvestBlockListener extends LazyLootTableListener {
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onBlockHarvest(PlayerHarvestBlockEvent event) {
         Block block = event.getHarvestedBlock();
-        if (ConfigurationManager.Setting.DISABLED_WORLDS.getStringList().stream().anyMatch(x -> x.equalsIgnoreCase(block.getWorld().getName())))
+        if (!LOOT_TABLE_MANAGER.canGenerateLoot(LootTableTypes.HARVEST, block.getWorld()))
             return;
 
         Player player = event.getPlayer();
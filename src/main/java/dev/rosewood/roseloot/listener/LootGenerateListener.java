@@ -5,12 +5,13 @@ import dev.rosewood.roseloot.listener.helper.LazyLootTableListener;
 import dev.rosewood.roseloot.loot.LootContents;
 import dev.rosewood.roseloot.loot.LootResult;
 import dev.rosewood.roseloot.loot.OverwriteExisting;
+import dev.rosewood.roseloot.loot.PreparedLoot;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import dev.rosewood.roseloot.loot.table.LootTableTypes;
-import dev.rosewood.roseloot.manager.ConfigurationManager.Setting;
 import dev.rosewood.roseloot.util.EntitySpawnUtil;
 import dev.rosewood.roseloot.util.LootUtils;
+import java.util.function.Supplier;
 import org.bukkit.Location;
 import org.bukkit.block.Block;
 import org.bukkit.block.Container;
@@ -20,6 +21,9 @@ import org.bukkit.entity.LivingEntity;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.world.LootGenerateEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
 
 public class LootGenerateListener extends LazyLootTableListener {
 
@@ -31,7 +35,7 @@ public class LootGenerateListener extends LazyLootTableListener {
     public void onLootGenerate(LootGenerateEvent event) {
         if (event.getInventoryHolder() instanceof Container container) {
             Block block = container.getBlock();
-            if (Setting.DISABLED_WORLDS.getStringList().stream().anyMatch(x -> x.equalsIgnoreCase(block.getWorld().getName())))
+            if (!LOOT_TABLE_MANAGER.canGenerateLoot(LootTableTypes.CONTAINER, block.getWorld()))
                 return;
 
             LivingEntity looter = null;
@@ -45,7 +49,21 @@ public class LootGenerateListener extends LazyLootTableListener {
                     .put(LootContextParams.VANILLA_LOOT_TABLE_KEY, event.getLootTable().getKey())
                     .put(LootContextParams.HAS_EXISTING_ITEMS, !event.getLoot().isEmpty())
                     .build();
-            LootResult lootResult = LOOT_TABLE_MANAGER.getLoot(LootTableTypes.CONTAINER, lootContext);
+            LootResult lootResult;
+            if (LOOT_TABLE_MANAGER.isAsyncLootGenerationEnabled()) {
+                PreparedLoot preparedLoot = LOOT_TABLE_MANAGER.prepareLoot(LootTableTypes.CONTAINER, lootContext);
+                if (LOOT_TABLE_MANAGER.canPopulateAsync(preparedLoot)) {
+                    LivingEntity experienceTarget = looter;
+                    this.populateLootAsync(event, preparedLoot, () -> block.getState() instanceof Container currentContainer ? currentContainer.getInventory() : null,
+                            () -> experienceTarget == null ? block.getLocation() : experienceTarget.getLocation(), block.getLocation());
+                    return;
+                }
+
+                lootResult = LOOT_TABLE_MANAGER.populateLoot(preparedLoot);
+            } else {
+                lootResult = LOOT_TABLE_MANAGER.getLoot(LootTableTypes.CONTAINER, lootContext);
+            }
+
             if (lootResult.isEmpty())
                 return;
 
@@ -66,7 +84,7 @@ public class LootGenerateListener extends LazyLootTableListener {
 
             lootContents.triggerExtras(block.getLocation());
         } else if (event.getInventoryHolder() instanceof Entity entity) {
-            if (Setting.DISABLED_WORLDS.getStringList().stream().anyMatch(x -> x.equalsIgnoreCase(entity.getWorld().getName())))
+            if (!LOOT_TABLE_MANAGER.canGenerateLoot(LootTableTypes.CONTAINER, entity.getWorld()))
                 return;
 
             LivingEntity looter = null;
@@ -79,7 +97,21 @@ public class LootGenerateListener extends LazyLootTableListener {
                     .put(LootContextParams.VANILLA_LOOT_TABLE_KEY, event.getLootTable().getKey())
                     .put(LootContextParams.HAS_EXISTING_ITEMS, !event.getLoot().isEmpty())
                     .build();
-            LootResult lootResult = LOOT_TABLE_MANAGER.getLoot(LootTableTypes.CONTAINER, lootContext);
+            LootResult lootResult;
+            if (LOOT_TABLE_MANAGER.isAsyncLootGenerationEnabled()) {
+                PreparedLoot preparedLoot = LOOT_TABLE_MANAGER.prepareLoot(LootTableTypes.CONTAINER, lootContext);
+                if (LOOT_TABLE_MANAGER.canPopulateAsync(preparedLoot)) {
+                    LivingEntity experienceTarget = looter;
+                    this.populateLootAsync(event, preparedLoot, () -> entity.isValid() && entity instanceof InventoryHolder inventoryHolder ? inventoryHolder.getInventory() : null,
+                            () -> experienceTarget == null ? entity.getLocation() : experienceTarget.getLocation(), entity.getLocation());
+                    return;
+                }
+
+                lootResult = LOOT_TABLE_MANAGER.populateLoot(preparedLoot);
+            } else {
+                lootResult = LOOT_TABLE_MANAGER.getLoot(LootTableTypes.CONTAINER, lootContext);
+            }
+
             if (lootResult.isEmpty())
                 return;
 
@@ -102,4 +134,40 @@ public class LootGenerateListener extends LazyLootTableListener {
         }
     }
 
+    /**
+     * Generates the loot off the main thread, the loot can no longer be added to the event by the time it's done so it
+     * is added to the inventory directly instead
+     *
+     * @param event The LootGenerateEvent
+     * @param preparedLoot The PreparedLoot to populate
+     * @param inventorySupplier Supplies the inventory to add the loot to once generated, null to drop the loot instead
+     * @param experienceLocationSupplier Supplies the location to drop experience at once generated
+     * @param location The location of the inventory
+     */
+    private void populateLootAsync(LootGenerateEvent event, PreparedLoot preparedLoot, Supplier<Inventory> inventorySupplier, Supplier<Location> experienceLocationSupplier, Location location) {
+        // Overwrite existing loot if applicable, this can't wait until the loot is generated
+        if (preparedLoot.doesOverwriteExisting(OverwriteExisting.ITEMS))
+            event.getLoot().clear();
+
+        LOOT_TABLE_MANAGER.populateLootAsync(preparedLoot, lootResult -> {
+            LootContents lootContents = lootResult.getLootContents();
+
+            // Add items and drop experience
+            ItemStack[] items = lootContents.getItems().toArray(new ItemStack[0]);
+            Inventory inventory = inventorySupplier.get();
+            if (inventory != null) {
+                inventory.addItem(items).values().forEach(x -> location.getWorld().dropItemNaturally(location, x));
+            } else {
+                for (ItemStack item : items)
+                    location.getWorld().dropItemNaturally(location, item);
+            }
+
+            int experience = lootContents.getExperience();
+            if (experience > 0)
+                EntitySpawnUtil.spawn(experienceLocationSupplier.get(), ExperienceOrb.class, x -> x.setExperience(experience));
+
+            lootContents.triggerExtras(location);
+        });
+    }
+
 }
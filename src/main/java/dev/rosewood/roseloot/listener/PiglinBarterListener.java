@@ -50,7 +50,7 @@ public class PiglinBarterListener extends LazyLootTableListener {
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onPiglinBarter(PiglinBarterEvent event) {
         Piglin piglin = event.getEntity();
-        if (Setting.DISABLED_WORLDS.getStringList().stream().anyMatch(x -> x.equalsIgnoreCase(piglin.getWorld().getName())))
+        if (!LOOT_TABLE_MANAGER.canGenerateLoot(LootTableTypes.PIGLIN_BARTER, piglin.getWorld()))
             return;
 
         ItemStack inputItem = event.getInput();
@@ -92,7 +92,7 @@ public class PiglinBarterListener extends LazyLootTableListener {
             return;
 
         Piglin piglin = (Piglin) event.getEntity();
-        if (Setting.DISABLED_WORLDS.getStringList().stream().anyMatch(x -> x.equalsIgnoreCase(piglin.getWorld().getName())))
+        if (LOOT_TABLE_MANAGER.isWorldDisabled(piglin.getWorld()))
             return;
 
         this.setPiglinBarterItems(piglin);
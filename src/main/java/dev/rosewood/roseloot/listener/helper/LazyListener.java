@@ -23,6 +23,22 @@ public abstract class LazyListener implements Listener {
             Bukkit.getPluginManager().registerEvents(this, this.rosePlugin);
     }
 
+    /**
+     * Registers or unregisters this listener if whether it should be enabled has changed
+     */
+    public void refresh() {
+        boolean enabled = this.enabledSupplier.get();
+        if (enabled == this.enabled)
+            return;
+
+        if (enabled) {
+            Bukkit.getPluginManager().registerEvents(this, this.rosePlugin);
+        } else {
+            HandlerList.unregisterAll(this);
+        }
+        this.enabled = enabled;
+    }
+
     public void disable() {
         if (this.enabled)
             HandlerList.unregisterAll(this);
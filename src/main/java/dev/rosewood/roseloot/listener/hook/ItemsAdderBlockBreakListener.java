@@ -10,6 +10,7 @@ import dev.rosewood.roseloot.loot.context.LootContextParam;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import dev.rosewood.roseloot.loot.table.LootTableTypes;
 import dev.rosewood.roseloot.manager.ConfigurationManager;
+import dev.rosewood.roseloot.manager.ItemDropManager;
 import dev.rosewood.roseloot.util.EntitySpawnUtil;
 import dev.rosewood.roseloot.util.LootUtils;
 import java.util.ArrayList;
@@ -43,7 +44,7 @@ public class ItemsAdderBlockBreakListener extends LazyLootTableListener {
             return;
 
         Block block = event.getBlock();
-        if (ConfigurationManager.Setting.DISABLED_WORLDS.getStringList().stream().anyMatch(x -> x.equalsIgnoreCase(block.getWorld().getName())))
+        if (!LOOT_TABLE_MANAGER.canGenerateLoot(LootTableTypes.BLOCK, block.getWorld()))
             return;
 
         Player player = event.getPlayer();
@@ -61,11 +62,18 @@ public class ItemsAdderBlockBreakListener extends LazyLootTableListener {
 
         // Drop items and experience
         Location dropLocation = block.getLocation();
-        List<Item> droppedItems = new ArrayList<>();
-        lootContents.getItems().forEach(x -> droppedItems.add(block.getWorld().dropItemNaturally(dropLocation, x)));
+        if (!ConfigurationManager.Setting.SIMULATE_BLOCKDROPITEMEVENT.getBoolean()) {
+            ItemDropManager itemDropManager = this.rosePlugin.getManager(ItemDropManager.class);
+            lootContents.getItems().forEach(x -> itemDropManager.dropItemNaturally(dropLocation, x));
+        }
 
         // Simulate a BlockDropItemEvent for each item dropped for better custom enchantment plugin support if enabled
-        if (!droppedItems.isEmpty() && ConfigurationManager.Setting.SIMULATE_BLOCKDROPITEMEVENT.getBoolean()) {
+        // The event needs the item entities right away, so these drops are never merged
+        List<Item> droppedItems = new ArrayList<>();
+        if (ConfigurationManager.Setting.SIMULATE_BLOCKDROPITEMEVENT.getBoolean())
+            lootContents.getItems().forEach(x -> droppedItems.add(block.getWorld().dropItemNaturally(dropLocation, x)));
+
+        if (!droppedItems.isEmpty()) {
             List<Item> eventItems = new ArrayList<>(droppedItems);
             BlockDropItemEvent blockDropItemEvent = new BlockDropItemEvent(block, block.getState(), player, eventItems);
             Bukkit.getPluginManager().callEvent(blockDropItemEvent);
@@ -3,6 +3,8 @@ package dev.rosewood.roseloot.listener.hook;
 import com.google.common.collect.Multimap;
 import dev.rosewood.rosegarden.RosePlugin;
 import dev.rosewood.roseloot.listener.helper.LazyLootTableListener;
+import dev.rosewood.roseloot.loot.BatchLootResult;
+import dev.rosewood.roseloot.loot.ExplosionType;
 import dev.rosewood.roseloot.loot.LootContents;
 import dev.rosewood.roseloot.loot.LootResult;
 import dev.rosewood.roseloot.loot.OverwriteExisting;
@@ -10,17 +12,21 @@ import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParam;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import dev.rosewood.roseloot.loot.table.LootTableTypes;
-import dev.rosewood.roseloot.manager.ConfigurationManager;
 import dev.rosewood.roseloot.util.LootUtils;
 import dev.rosewood.rosestacker.event.EntityStackMultipleDeathEvent;
 import dev.rosewood.rosestacker.stack.StackedEntity;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
 import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.inventory.ItemStack;
@@ -37,7 +43,7 @@ public class RoseStackerEntityDeathListener extends LazyLootTableListener {
     @EventHandler
     public void onEntityStackMultipleDeath(EntityStackMultipleDeathEvent event) {
         LivingEntity mainEntity = event.getStack().getEntity();
-        if (ConfigurationManager.Setting.DISABLED_WORLDS.getStringList().stream().anyMatch(x -> x.equalsIgnoreCase(mainEntity.getWorld().getName())))
+        if (!LOOT_TABLE_MANAGER.canGenerateLoot(LootTableTypes.ENTITY, mainEntity.getWorld()))
             return;
 
         Entity looter = null;
@@ -53,37 +59,90 @@ public class RoseStackerEntityDeathListener extends LazyLootTableListener {
 
         List<LootContents> extras = new ArrayList<>();
         Multimap<LivingEntity, EntityStackMultipleDeathEvent.EntityDrops> stackDrops = event.getEntityDrops();
-        for (LivingEntity entity : stackDrops.keySet()) {
-            for (EntityStackMultipleDeathEvent.EntityDrops drops : event.getEntityDrops().get(entity)) {
-                LootContext lootContext = LootContext.builder(LootUtils.getEntityLuck(looter), enchantmentLevels)
-                        .put(LootContextParams.ORIGIN, entity.getLocation())
-                        .put(LootContextParams.LOOTER, looter)
-                        .put(LootContextParams.LOOTED_ENTITY, entity)
-                        .put(STACKED_ENTITY, event.getStack())
-                        .put(LootContextParams.EXPLOSION_TYPE, LootUtils.getDeathExplosionType(entity))
-                        .put(LootContextParams.HAS_EXISTING_ITEMS, !drops.getDrops().isEmpty())
-                        .build();
-                LootResult lootResult = LOOT_TABLE_MANAGER.getLoot(LootTableTypes.ENTITY, lootContext);
-                if (lootResult.isEmpty())
-                    continue;
-
-                LootContents lootContents = lootResult.getLootContents();
-
-                // Overwrite existing drops if applicable
-                if (lootResult.doesOverwriteExisting(OverwriteExisting.ITEMS))
-                    drops.getDrops().clear();
-
-                if (lootResult.doesOverwriteExisting(OverwriteExisting.EXPERIENCE))
-                    drops.setExperience(0);
-
-                // Add items to drops and adjust experience
-                drops.getDrops().addAll(lootContents.getItems());
-                drops.setExperience(drops.getExperience() + lootContents.getExperience());
-
-                extras.add(lootContents);
-            }
+
+        // Only entities with an equivalent LootContext can share a batch, anything else is generated per entity
+        Map<BatchKey, List<Map.Entry<LivingEntity, EntityStackMultipleDeathEvent.EntityDrops>>> groups = new LinkedHashMap<>();
+        for (Map.Entry<LivingEntity, EntityStackMultipleDeathEvent.EntityDrops> entry : stackDrops.entries())
+            groups.computeIfAbsent(BatchKey.of(entry.getKey(), entry.getValue()), x -> new ArrayList<>()).add(entry);
+
+        for (List<Map.Entry<LivingEntity, EntityStackMultipleDeathEvent.EntityDrops>> group : groups.values()) {
+            if (group.size() > 1 && this.populateBatch(event, group, looter, enchantmentLevels, extras))
+                continue;
+
+            for (Map.Entry<LivingEntity, EntityStackMultipleDeathEvent.EntityDrops> entry : group)
+                this.populate(event, entry.getKey(), entry.getValue(), looter, enchantmentLevels, extras);
         }
 
+        this.triggerExtras(mainEntity, extras);
+    }
+
+    private boolean populateBatch(EntityStackMultipleDeathEvent event, List<Map.Entry<LivingEntity, EntityStackMultipleDeathEvent.EntityDrops>> group, Entity looter, Map<Enchantment, Integer> enchantmentLevels, List<LootContents> extras) {
+        Map.Entry<LivingEntity, EntityStackMultipleDeathEvent.EntityDrops> first = group.get(0);
+        LootContext contextTemplate = this.createLootContext(event, first.getKey(), first.getValue(), looter, enchantmentLevels);
+        if (!LOOT_TABLE_MANAGER.canBatch(LootTableTypes.ENTITY, contextTemplate))
+            return false;
+
+        BatchLootResult lootResult = LOOT_TABLE_MANAGER.getLootBatch(LootTableTypes.ENTITY, contextTemplate, group.size());
+        if (lootResult.isEmpty())
+            return true;
+
+        // Overwrite existing drops for the runs that did so
+        for (int run = 0; run < group.size(); run++) {
+            EntityStackMultipleDeathEvent.EntityDrops drops = group.get(run).getValue();
+            if (lootResult.doesOverwriteExisting(OverwriteExisting.ITEMS, run))
+                drops.getDrops().clear();
+
+            if (lootResult.doesOverwriteExisting(OverwriteExisting.EXPERIENCE, run))
+                drops.setExperience(0);
+        }
+
+        // Add all the items and experience to the drops of a single entity, they all share the same location
+        LootContents lootContents = lootResult.getLootContents();
+        EntityStackMultipleDeathEvent.EntityDrops drops = first.getValue();
+        drops.getDrops().addAll(lootContents.getItems());
+        drops.setExperience(drops.getExperience() + lootContents.getExperience());
+
+        extras.add(lootContents);
+        return true;
+    }
+
+    private void populate(EntityStackMultipleDeathEvent event, LivingEntity entity, EntityStackMultipleDeathEvent.EntityDrops drops, Entity looter, Map<Enchantment, Integer> enchantmentLevels, List<LootContents> extras) {
+        LootContext lootContext = this.createLootContext(event, entity, drops, looter, enchantmentLevels);
+        LootResult lootResult = LOOT_TABLE_MANAGER.getLoot(LootTableTypes.ENTITY, lootContext);
+        if (lootResult.isEmpty())
+            return;
+
+        LootContents lootContents = lootResult.getLootContents();
+
+        // Overwrite existing drops if applicable
+        if (lootResult.doesOverwriteExisting(OverwriteExisting.ITEMS))
+            drops.getDrops().clear();
+
+        if (lootResult.doesOverwriteExisting(OverwriteExisting.EXPERIENCE))
+            drops.setExperience(0);
+
+        // Add items to drops and adjust experience
+        drops.getDrops().addAll(lootContents.getItems());
+        drops.setExperience(drops.getExperience() + lootContents.getExperience());
+
+        extras.add(lootContents);
+    }
+
+    private LootContext createLootContext(EntityStackMultipleDeathEvent event, LivingEntity entity, EntityStackMultipleDeathEvent.EntityDrops drops, Entity looter, Map<Enchantment, Integer> enchantmentLevels) {
+        return LootContext.builder(LootUtils.getEntityLuck(looter), enchantmentLevels)
+                .put(LootContextParams.ORIGIN, entity.getLocation())
+                .put(LootContextParams.LOOTER, looter)
+                .put(LootContextParams.LOOTED_ENTITY, entity)
+                .put(STACKED_ENTITY, event.getStack())
+                .put(LootContextParams.EXPLOSION_TYPE, LootUtils.getDeathExplosionType(entity))
+                .put(LootContextParams.HAS_EXISTING_ITEMS, !drops.getDrops().isEmpty())
+                .build();
+    }
+
+    private void triggerExtras(LivingEntity mainEntity, List<LootContents> extras) {
+        if (extras.isEmpty())
+            return;
+
         Runnable task = () -> extras.forEach(x -> x.triggerExtras(mainEntity.getLocation()));
         if (!Bukkit.isPrimaryThread()) {
             Bukkit.getScheduler().runTask(this.rosePlugin, task);
@@ -92,4 +151,19 @@ public class RoseStackerEntityDeathListener extends LazyLootTableListener {
         }
     }
 
+    /**
+     * The values of a LootContext created by {@link #createLootContext} that can differ between the entities of a stack.
+     * Batchable LootTables only have snapshot safe conditions, so entity state they can't read is left out.
+     */
+    private record BatchKey(EntityType entityType, String customName, Player killer, ExplosionType explosionType, boolean hasExistingItems,
+                            World world, int blockX, int blockY, int blockZ) {
+
+        private static BatchKey of(LivingEntity entity, EntityStackMultipleDeathEvent.EntityDrops drops) {
+            Location location = entity.getLocation();
+            return new BatchKey(entity.getType(), entity.getCustomName(), entity.getKiller(), LootUtils.getDeathExplosionType(entity),
+                    !drops.getDrops().isEmpty(), location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        }
+
+    }
+
 }
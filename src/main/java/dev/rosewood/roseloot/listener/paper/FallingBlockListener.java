@@ -8,7 +8,6 @@ import dev.rosewood.roseloot.loot.OverwriteExisting;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import dev.rosewood.roseloot.loot.table.LootTableTypes;
-import dev.rosewood.roseloot.manager.ConfigurationManager;
 import org.bukkit.Location;
 import org.bukkit.entity.FallingBlock;
 import org.bukkit.event.EventHandler;
@@ -26,7 +25,7 @@ public class FallingBlockListener extends LazyLootTableListener {
         if (!(event.getEntity() instanceof FallingBlock fallingBlock))
             return;
 
-        if (ConfigurationManager.Setting.DISABLED_WORLDS.getStringList().stream().anyMatch(x -> x.equalsIgnoreCase(fallingBlock.getWorld().getName())))
+        if (!LOOT_TABLE_MANAGER.canGenerateLoot(LootTableTypes.BLOCK, fallingBlock.getWorld()))
             return;
 
         LootContext lootContext = LootContext.builder()
@@ -8,7 +8,6 @@ import dev.rosewood.roseloot.loot.OverwriteExisting;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import dev.rosewood.roseloot.loot.table.LootTableTypes;
-import dev.rosewood.roseloot.manager.ConfigurationManager;
 import dev.rosewood.roseloot.util.EntitySpawnUtil;
 import io.papermc.paper.event.block.BlockBreakBlockEvent;
 import org.bukkit.Location;
@@ -26,7 +25,7 @@ public class NewerPaperListener extends LazyLootTableListener {
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onBlockBreakBlockEvent(BlockBreakBlockEvent event) {
         Block block = event.getBlock();
-        if (ConfigurationManager.Setting.DISABLED_WORLDS.getStringList().stream().anyMatch(x -> x.equalsIgnoreCase(block.getWorld().getName())))
+        if (!LOOT_TABLE_MANAGER.canGenerateLoot(LootTableTypes.BLOCK, block.getWorld()))
             return;
 
         LootContext lootContext = LootContext.builder()
@@ -0,0 +1,50 @@
+package dev.rosewood.roseloot.loot;
+
+import dev.rosewood.roseloot.loot.context.LootContext;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The combined LootResult of many runs with the same LootContext.
+ * LootTables can overwrite existing values for only some of the runs, so those are tracked for each run.
+ */
+public class BatchLootResult extends LootResult {
+
+    private final int runs;
+    private final Map<OverwriteExisting, BitSet> overwriteExistingRuns;
+
+    public BatchLootResult(LootContext lootContext, LootContents lootContents, Set<OverwriteExisting> overwriteExisting, int runs, Map<OverwriteExisting, BitSet> overwriteExistingRuns) {
+        super(lootContext, lootContents, overwriteExisting);
+        this.runs = runs;
+        this.overwriteExistingRuns = overwriteExistingRuns;
+    }
+
+    /**
+     * @return the number of runs combined into this LootResult
+     */
+    public int getRuns() {
+        return this.runs;
+    }
+
+    /**
+     * Checks if something with existing values should be overwritten for a single run
+     *
+     * @param type the type of existing value
+     * @param run the index of the run, from 0 until {@link #getRuns()}
+     * @return true if the existing value should be overwritten for the run
+     */
+    public boolean doesOverwriteExisting(OverwriteExisting type, int run) {
+        if (this.doesOverwriteExisting(type))
+            return true;
+
+        BitSet runs = this.overwriteExistingRuns.get(type);
+        return runs != null && runs.get(run);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return super.isEmpty() && this.overwriteExistingRuns.values().stream().allMatch(BitSet::isEmpty);
+    }
+
+}
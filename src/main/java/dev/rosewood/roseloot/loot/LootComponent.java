@@ -1,18 +1,30 @@
 package dev.rosewood.roseloot.loot;
 
+import dev.rosewood.roseloot.loot.condition.CompiledLootConditions;
 import dev.rosewood.roseloot.loot.condition.LootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.item.ItemLootItem;
 import dev.rosewood.roseloot.loot.item.LootItem;
 import dev.rosewood.roseloot.provider.NumberProvider;
-import dev.rosewood.roseloot.util.RandomCollection;
+import dev.rosewood.roseloot.util.AliasSampler;
+import dev.rosewood.roseloot.util.LootUtils;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import org.bukkit.inventory.ItemStack;
 
 public class LootComponent implements LootContentsPopulator {
 
+    private static final int MAX_LUCK_SAMPLERS = 32;
+    private static final ThreadLocal<WeightedScratch> SCRATCH = ThreadLocal.withInitial(WeightedScratch::new);
+
+    private final String path;
     private final List<LootCondition> conditions;
+    private final LootCondition compiledConditions;
     private final List<LootItem> lootItems;
 
     private final NumberProvider rolls, bonusRolls;
@@ -20,8 +32,21 @@ public class LootComponent implements LootContentsPopulator {
     private final ChildrenStrategy childrenStrategy;
     private final List<LootComponent> children;
 
-    public LootComponent(List<LootCondition> conditions, NumberProvider rolls, NumberProvider bonusRolls, NumberProvider weight, NumberProvider quality, List<LootItem> lootItems, ChildrenStrategy childrenStrategy, List<LootComponent> children) {
+    // The children split up once at load time, so populating does not need to sort through them again
+    private final LootComponent[] childArray;
+    private final LootComponent[] unweightedChildren;
+    private final LootComponent[] weightedChildren;
+
+    private final List<LootComponent> staticWeightedChildren;
+    private final AliasSampler<LootComponent> weightedSampler;
+    private final Map<Double, AliasSampler<LootComponent>> luckWeightedSamplers;
+
+    private final boolean snapshotSafe;
+
+    public LootComponent(String path, List<LootCondition> conditions, NumberProvider rolls, NumberProvider bonusRolls, NumberProvider weight, NumberProvider quality, List<LootItem> lootItems, ChildrenStrategy childrenStrategy, List<LootComponent> children) {
+        this.path = path;
         this.conditions = conditions;
+        this.compiledConditions = CompiledLootConditions.compile(conditions);
         this.rolls = rolls;
         this.bonusRolls = bonusRolls;
         this.weight = weight;
@@ -29,46 +54,75 @@ public class LootComponent implements LootContentsPopulator {
         this.lootItems = lootItems;
         this.childrenStrategy = childrenStrategy;
         this.children = children;
+
+        List<LootComponent> childList = children != null ? children : List.of();
+        this.childArray = childList.toArray(LootComponent[]::new);
+        this.unweightedChildren = childList.stream().filter(x -> !x.isWeighted()).toArray(LootComponent[]::new);
+        this.weightedChildren = childList.stream().filter(LootComponent::isWeighted).toArray(LootComponent[]::new);
+
+        // Prebuild a sampler for the weighted children if picking one of them never depends on the LootContext
+        this.staticWeightedChildren = this.findStaticWeightedChildren();
+        if (this.staticWeightedChildren != null && this.staticWeightedChildren.stream().noneMatch(LootComponent::isLuckDependent)) {
+            this.weightedSampler = this.createWeightedSampler(0);
+            this.luckWeightedSamplers = null;
+        } else {
+            this.weightedSampler = null;
+            this.luckWeightedSamplers = this.staticWeightedChildren != null ? new ConcurrentHashMap<>() : null;
+        }
+
+        this.snapshotSafe = this.compiledConditions.isSnapshotSafe()
+                && rolls.isSnapshotSafe() && bonusRolls.isSnapshotSafe()
+                && (weight == null || weight.isSnapshotSafe()) && quality.isSnapshotSafe()
+                && lootItems.stream().allMatch(LootItem::isSnapshotSafe)
+                && childList.stream().allMatch(LootComponent::isSnapshotSafe);
     }
 
     @Override
     public void populate(LootContext context, LootContents contents) {
-        contents.add(this.lootItems);
+        if (!this.lootItems.isEmpty())
+            contents.add(this.lootItems);
 
-        if (this.children != null && this.childrenStrategy != null) {
+        if (this.childArray.length > 0 && this.childrenStrategy != null) {
             switch (this.childrenStrategy) {
                 case NORMAL -> {
-                    List<LootComponent> weightedEntries = new ArrayList<>();
-                    List<LootComponent> unweightedEntries = new ArrayList<>();
-
-                    // Sort entries by weighted and unweighted
-                    for (LootComponent child : this.children) {
-                        if (child.isWeighted()) {
-                            weightedEntries.add(child);
-                        } else {
-                            unweightedEntries.add(child);
-                        }
-                    }
-
                     // Handle unweighted entries
-                    for (LootComponent entry : unweightedEntries)
+                    for (LootComponent entry : this.unweightedChildren)
                         if (entry.check(context))
                             entry.populate(context, contents);
 
+                    if (this.weightedChildren.length == 0)
+                        break;
+
                     // Handle weighted entries
                     int numRolls = this.rolls.getInteger(context) + (int) Math.round(this.bonusRolls.getDouble(context) * context.getLuckLevel());
-                    for (int i = 0; i < numRolls; i++) {
-                        RandomCollection<LootComponent> randomEntries = new RandomCollection<>();
-                        for (LootComponent entry : weightedEntries)
-                            if (entry.check(context))
-                                randomEntries.add(entry.getWeight(context), entry);
+                    boolean instrumented = LootProfiler.isInstrumented();
+                    if (instrumented)
+                        LootTracer.rolls(this, numRolls);
+
+                    AliasSampler<LootComponent> sampler = this.getWeightedSampler(context);
+                    if (sampler != null) {
+                        if (!sampler.isEmpty()) {
+                            for (int i = 0; i < numRolls; i++) {
+                                LootComponent entry = sampler.next();
+                                if (instrumented)
+                                    LootTracer.picked(entry);
+                                entry.populate(context, contents);
+                            }
+                        }
+                        break;
+                    }
 
-                        if (!randomEntries.isEmpty())
-                            randomEntries.next().populate(context, contents);
+                    WeightedScratch scratch = SCRATCH.get();
+                    for (int i = 0; i < numRolls; i++) {
+                        LootComponent entry = scratch.pick(this.weightedChildren, context);
+                        if (instrumented)
+                            LootTracer.picked(entry);
+                        if (entry != null)
+                            entry.populate(context, contents);
                     }
                 }
                 case SEQUENTIAL -> {
-                    for (LootComponent child : this.children) {
+                    for (LootComponent child : this.childArray) {
                         if (!child.check(context))
                             break;
 
@@ -76,7 +130,7 @@ public class LootComponent implements LootContentsPopulator {
                     }
                 }
                 case FIRST_PASSING -> {
-                    for (LootComponent child : this.children) {
+                    for (LootComponent child : this.childArray) {
                         if (child.check(context)) {
                             child.populate(context, contents);
                             break;
@@ -87,6 +141,127 @@ public class LootComponent implements LootContentsPopulator {
         }
     }
 
+    /**
+     * Populates this component the given number of times as if each were a separate run with the same LootContext.
+     * Weighted children are picked in aggregate and children whose conditions have a known pass chance are checked
+     * in aggregate, anything else is checked for each run.
+     *
+     * @param context The LootContext
+     * @param contents The LootContents to populate
+     * @param runs The number of runs to populate
+     */
+    public void populateBatch(LootContext context, LootContents contents, int runs) {
+        if (runs <= 0)
+            return;
+
+        if (!this.lootItems.isEmpty())
+            contents.add(this.lootItems, runs);
+
+        if (this.childArray.length == 0 || this.childrenStrategy == null)
+            return;
+
+        switch (this.childrenStrategy) {
+            case NORMAL -> {
+                // Handle unweighted entries
+                for (LootComponent entry : this.unweightedChildren)
+                    entry.populateBatch(context, contents, entry.checkBatch(context, runs));
+
+                if (this.weightedChildren.length == 0)
+                    break;
+
+                // Handle weighted entries
+                int numRolls = 0;
+                if (this.rolls.isConstant() && this.bonusRolls.isConstant()) {
+                    numRolls = runs * (this.rolls.getInteger(context) + (int) Math.round(this.bonusRolls.getDouble(context) * context.getLuckLevel()));
+                } else {
+                    for (int i = 0; i < runs; i++)
+                        numRolls += this.rolls.getInteger(context) + (int) Math.round(this.bonusRolls.getDouble(context) * context.getLuckLevel());
+                }
+
+                AliasSampler<LootComponent> sampler = this.getWeightedSampler(context);
+                if (sampler != null) {
+                    if (!sampler.isEmpty() && numRolls > 0) {
+                        int[] counts = sampler.nextCounts(numRolls);
+                        for (int i = 0; i < counts.length; i++)
+                            sampler.get(i).populateBatch(context, contents, counts[i]);
+                    }
+                    break;
+                }
+
+                // Weights may change between picks, so pick for each roll but populate each picked child once
+                WeightedScratch scratch = SCRATCH.get();
+                Map<LootComponent, Integer> picks = new IdentityHashMap<>();
+                for (int i = 0; i < numRolls; i++) {
+                    LootComponent entry = scratch.pick(this.weightedChildren, context);
+                    if (entry != null)
+                        picks.merge(entry, 1, Integer::sum);
+                }
+
+                for (LootComponent entry : this.weightedChildren) {
+                    Integer picked = picks.get(entry);
+                    if (picked != null)
+                        entry.populateBatch(context, contents, picked);
+                }
+            }
+            case SEQUENTIAL -> {
+                // Runs continue on to the next child only while every child before it passed
+                int remaining = runs;
+                for (LootComponent child : this.childArray) {
+                    remaining = child.checkBatch(context, remaining);
+                    if (remaining == 0)
+                        break;
+
+                    child.populateBatch(context, contents, remaining);
+                }
+            }
+            case FIRST_PASSING -> {
+                // Runs that passed a child don't check the children after it
+                int remaining = runs;
+                for (LootComponent child : this.childArray) {
+                    int passed = child.checkBatch(context, remaining);
+                    child.populateBatch(context, contents, passed);
+                    remaining -= passed;
+                    if (remaining == 0)
+                        break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks the conditions of this component for the given number of runs with the same LootContext
+     *
+     * @param context The LootContext
+     * @param runs The number of runs to check
+     * @return the number of runs that passed
+     */
+    public int checkBatch(LootContext context, int runs) {
+        return checkConditionsBatch(this.compiledConditions, context, runs);
+    }
+
+    /**
+     * Checks a condition for the given number of runs with the same LootContext, in aggregate if its pass chance is known
+     *
+     * @param condition The condition to check
+     * @param context The LootContext
+     * @param runs The number of runs to check
+     * @return the number of runs that passed
+     */
+    static int checkConditionsBatch(LootCondition condition, LootContext context, int runs) {
+        if (runs <= 0)
+            return 0;
+
+        double chance = condition.getPassChance(context);
+        if (chance >= 0)
+            return LootUtils.randomBinomial(runs, chance);
+
+        int passed = 0;
+        for (int i = 0; i < runs; i++)
+            if (condition.check(context))
+                passed++;
+        return passed;
+    }
+
     @Override
     public List<ItemStack> getAllItems(LootContext context) {
         List<ItemStack> items = new ArrayList<>();
@@ -100,7 +275,21 @@ public class LootComponent implements LootContentsPopulator {
 
     @Override
     public boolean check(LootContext context) {
-        return this.conditions.stream().allMatch(x -> x.check(context));
+        if (!LootProfiler.isInstrumented())
+            return this.compiledConditions.check(context);
+
+        long startNanos = System.nanoTime();
+        long startAllocatedBytes = LootProfiler.getAllocatedBytes();
+        boolean passed = LootProfiler.checkCondition(this.compiledConditions, context);
+        LootProfiler.record(LootProfiler.Category.COMPONENT, this.path, passed, startNanos, startAllocatedBytes);
+        return passed;
+    }
+
+    /**
+     * @return the path of this component, made up of the loot table name and the keys leading to this component
+     */
+    public String getPath() {
+        return this.path;
     }
 
     /**
@@ -120,6 +309,130 @@ public class LootComponent implements LootContentsPopulator {
         return this.weight != null;
     }
 
+    /**
+     * @return true if this component and all of its children can be populated off the main thread
+     */
+    public boolean isSnapshotSafe() {
+        return this.snapshotSafe;
+    }
+
+    /**
+     * @return true if this component is always eligible to be picked with the same weight for a given luck level
+     */
+    private boolean hasStaticWeight() {
+        return this.compiledConditions == LootCondition.ALWAYS_TRUE && this.weight.isConstant() && this.quality.isConstant();
+    }
+
+    /**
+     * @return true if the weight of this component changes with the luck level, only valid if it has a static weight
+     */
+    private boolean isLuckDependent() {
+        return this.quality.getDouble(null) != 0;
+    }
+
+    /**
+     * @return the weighted children if all of them have a static weight, otherwise null
+     */
+    private List<LootComponent> findStaticWeightedChildren() {
+        if (this.childrenStrategy != ChildrenStrategy.NORMAL || this.weightedChildren.length == 0)
+            return null;
+
+        for (LootComponent child : this.weightedChildren)
+            if (!child.hasStaticWeight())
+                return null;
+
+        return List.of(this.weightedChildren);
+    }
+
+    /**
+     * Gets the prebuilt sampler for the weighted children
+     *
+     * @param context The LootContext
+     * @return the sampler for the luck level of the LootContext, or null if the weighted children must be picked each roll
+     */
+    private AliasSampler<LootComponent> getWeightedSampler(LootContext context) {
+        if (this.weightedSampler != null)
+            return this.weightedSampler;
+
+        if (this.luckWeightedSamplers == null)
+            return null;
+
+        double luck = context.getLuckLevel();
+        AliasSampler<LootComponent> sampler = this.luckWeightedSamplers.get(luck);
+        if (sampler == null) {
+            if (this.luckWeightedSamplers.size() >= MAX_LUCK_SAMPLERS)
+                this.luckWeightedSamplers.clear();
+            sampler = this.createWeightedSampler(luck);
+            this.luckWeightedSamplers.put(luck, sampler);
+        }
+        return sampler;
+    }
+
+    private AliasSampler<LootComponent> createWeightedSampler(double luck) {
+        double[] weights = new double[this.staticWeightedChildren.size()];
+        for (int i = 0; i < weights.length; i++) {
+            LootComponent child = this.staticWeightedChildren.get(i);
+            weights[i] = child.weight.getDouble(null) + child.quality.getDouble(null) * luck;
+        }
+        return new AliasSampler<>(this.staticWeightedChildren, weights);
+    }
+
+    /**
+     * Reusable per-thread buffers for picking a weighted child each roll without allocating.
+     * Only used between checking the weighted children and picking one of them, so nested components populated
+     * afterwards can safely reuse the same buffers.
+     */
+    private static class WeightedScratch {
+
+        private LootComponent[] candidates = new LootComponent[16];
+        private double[] cumulativeWeights = new double[16];
+
+        /**
+         * Picks a random child out of the ones that pass their conditions, according to their weights
+         *
+         * @param children The weighted children to pick from
+         * @param context The LootContext
+         * @return the picked child, or null if none of them pass
+         */
+        public LootComponent pick(LootComponent[] children, LootContext context) {
+            if (this.candidates.length < children.length) {
+                this.candidates = new LootComponent[children.length];
+                this.cumulativeWeights = new double[children.length];
+            }
+
+            int size = 0;
+            double total = 0;
+            for (LootComponent child : children) {
+                if (!child.check(context))
+                    continue;
+
+                double weight = child.getWeight(context);
+                if (weight <= 0)
+                    continue;
+
+                total += weight;
+                this.candidates[size] = child;
+                this.cumulativeWeights[size++] = total;
+            }
+
+            if (size == 0)
+                return null;
+
+            double value = ThreadLocalRandom.current().nextDouble() * total;
+            LootComponent picked = this.candidates[size - 1];
+            for (int i = 0; i < size; i++) {
+                if (value < this.cumulativeWeights[i]) {
+                    picked = this.candidates[i];
+                    break;
+                }
+            }
+
+            Arrays.fill(this.candidates, 0, size, null);
+            return picked;
+        }
+
+    }
+
     /**
      * The strategy to use when evaluating a LootComponent's children
      */
@@ -1,5 +1,6 @@
 package dev.rosewood.roseloot.loot;
 
+import dev.rosewood.roseloot.RoseLoot;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.item.AutoTriggerableLootItem;
 import dev.rosewood.roseloot.loot.item.ExperienceGenerativeLootItem;
@@ -7,11 +8,15 @@ import dev.rosewood.roseloot.loot.item.ItemGenerativeLootItem;
 import dev.rosewood.roseloot.loot.item.LootItem;
 import dev.rosewood.roseloot.loot.item.RecursiveLootItem;
 import dev.rosewood.roseloot.loot.item.TriggerableLootItem;
+import dev.rosewood.roseloot.manager.ItemDropManager;
 import dev.rosewood.roseloot.util.EntitySpawnUtil;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Map;
 import org.bukkit.Location;
 import org.bukkit.entity.ExperienceOrb;
 import org.bukkit.entity.Player;
@@ -24,10 +29,17 @@ public class LootContents {
 
     private final LootContext context;
     private final List<LootItem> contents;
+    private final Map<Object, LootItem> combinable;
+    // LootItem -> number of times it was added, only for LootItems added many times at once, which are stored once
+    private final Map<LootItem, Integer> repeats;
+    private List<ItemStack> pregeneratedItems;
+    private Integer pregeneratedExperience;
 
     public LootContents(LootContext context) {
         this.context = context;
         this.contents = new ArrayList<>();
+        this.combinable = new HashMap<>();
+        this.repeats = new IdentityHashMap<>();
     }
 
     /**
@@ -36,46 +48,125 @@ public class LootContents {
      * @param lootItems The LootItems to add
      */
     public void add(List<LootItem> lootItems) {
-        // Turn RecursiveLootItem into a List<LootItem> and add them to the stored contents
-        // Continue doing this until we have no more RecursiveLootItem to process
-        lootItems.stream()
-                .flatMap(x -> x instanceof RecursiveLootItem recursiveLootItem ? this.recursivelyGenerateLootItems(recursiveLootItem).stream() : Stream.of(x))
-                .forEach(this.contents::add);
-
-        // Attempt to merge LootItems
-        for (int i = 0; i < this.contents.size(); i++) {
-            LootItem item = this.contents.get(i);
-            for (int j = i + 1; j < this.contents.size(); j++) {
-                LootItem other = this.contents.get(j);
-                if (item.combineWith(other))
-                    this.contents.remove(j--);
+        this.add(lootItems, 1);
+    }
+
+    /**
+     * Processes and adds a List of LootItems to the stored contents as if it was added the given number of times.
+     * Items, experience and triggers are stored once along with the number of times they were added, so they can be
+     * generated in aggregate. LootItems that are expanded, combined or triggered right away are still added one at a time.
+     *
+     * @param lootItems The LootItems to add
+     * @param times The number of times to add the LootItems
+     */
+    public void add(List<LootItem> lootItems, int times) {
+        if (times <= 0)
+            return;
+
+        this.clearPregenerated();
+
+        List<AutoTriggerableLootItem> autoTriggered = null;
+        for (int i = 0; i < lootItems.size(); i++) {
+            LootItem lootItem = lootItems.get(i);
+            if (times == 1 || lootItem instanceof RecursiveLootItem || lootItem instanceof AutoTriggerableLootItem || lootItem.getCombineKey() != null) {
+                for (int j = 0; j < times; j++)
+                    autoTriggered = this.add(lootItem, autoTriggered);
+            } else {
+                this.addRepeated(lootItem, times);
             }
         }
 
-        // Automatically trigger and remove AutoTriggerableLootItem
-        this.contents.removeIf(x -> {
-            if (x instanceof AutoTriggerableLootItem lootItem) {
+        // Automatically trigger AutoTriggerableLootItem, they are never stored
+        if (autoTriggered != null)
+            for (AutoTriggerableLootItem lootItem : autoTriggered)
                 lootItem.trigger(this.context);
-                return true;
-            }
-            return false;
-        });
     }
 
-    private List<LootItem> recursivelyGenerateLootItems(RecursiveLootItem recursiveLootItem) {
-        List<LootItem> lootItems = new ArrayList<>();
-        for (LootItem lootItem : recursiveLootItem.generate(this.context)) {
-            if (lootItem instanceof RecursiveLootItem generated) {
-                lootItems.addAll(this.recursivelyGenerateLootItems(generated));
-            } else {
-                lootItems.add(lootItem);
+    /**
+     * Adds a single LootItem to the stored contents, merging it into an existing LootItem with the same combine key.
+     * RecursiveLootItem are expanded until there are no more RecursiveLootItem to process.
+     *
+     * @param lootItem The LootItem to add
+     * @param autoTriggered The AutoTriggerableLootItem found so far, may be null
+     * @return the AutoTriggerableLootItem found so far, may be null
+     */
+    private List<AutoTriggerableLootItem> add(LootItem lootItem, List<AutoTriggerableLootItem> autoTriggered) {
+        if (lootItem instanceof RecursiveLootItem recursiveLootItem) {
+            for (LootItem generated : recursiveLootItem.generate(this.context))
+                autoTriggered = this.add(generated, autoTriggered);
+            return autoTriggered;
+        }
+
+        Object combineKey = lootItem.getCombineKey();
+        if (combineKey != null) {
+            LootItem existing = this.combinable.get(combineKey);
+            if (existing != null && existing.combineWith(lootItem))
+                return autoTriggered;
+        }
+
+        if (lootItem instanceof AutoTriggerableLootItem autoTriggerableLootItem) {
+            if (autoTriggered == null)
+                autoTriggered = new ArrayList<>();
+            autoTriggered.add(autoTriggerableLootItem);
+            return autoTriggered;
+        }
+
+        // Combine into a copy, the same configured LootItem may be added again for another roll or run
+        if (combineKey != null) {
+            lootItem = lootItem.copy();
+            this.combinable.put(combineKey, lootItem);
+        }
+
+        Integer repeated = this.repeats.get(lootItem);
+        if (repeated != null) {
+            this.repeats.put(lootItem, repeated + 1);
+        } else {
+            this.contents.add(lootItem);
+        }
+        return autoTriggered;
+    }
+
+    private void addRepeated(LootItem lootItem, int times) {
+        Integer repeated = this.repeats.get(lootItem);
+        if (repeated != null) {
+            this.repeats.put(lootItem, repeated + times);
+            return;
+        }
+
+        // Take over the times the LootItem was already added on its own
+        int count = times;
+        for (Iterator<LootItem> iterator = this.contents.iterator(); iterator.hasNext();) {
+            if (iterator.next() == lootItem) {
+                iterator.remove();
+                count++;
             }
         }
-        return lootItems;
+
+        this.contents.add(lootItem);
+        this.repeats.put(lootItem, count);
+    }
+
+    private int getTimes(LootItem lootItem) {
+        return this.repeats.isEmpty() ? 1 : this.repeats.getOrDefault(lootItem, 1);
+    }
+
+    /**
+     * @param lootItems The LootItems to expand
+     * @return the LootItems with each one repeated as many times as it was added
+     */
+    private <T extends LootItem> List<T> expand(List<T> lootItems) {
+        if (this.repeats.isEmpty())
+            return lootItems;
+
+        List<T> expanded = new ArrayList<>();
+        for (T lootItem : lootItems)
+            for (int i = this.getTimes(lootItem); i > 0; i--)
+                expanded.add(lootItem);
+        return expanded;
     }
 
     public List<LootItem> getContents() {
-        return Collections.unmodifiableList(this.contents);
+        return Collections.unmodifiableList(this.expand(this.contents));
     }
 
     /**
@@ -85,13 +176,27 @@ public class LootContents {
      * @return the items of this loot contents
      */
     public List<ItemStack> getItems() {
+        if (this.pregeneratedItems != null)
+            return this.pregeneratedItems;
+
         return this.contents.stream()
                 .filter(x -> x instanceof ItemGenerativeLootItem)
                 .map(x -> (ItemGenerativeLootItem) x)
-                .flatMap(x -> x.generate(this.context).stream())
+                .flatMap(x -> this.generate(x, this.getTimes(x)).stream())
                 .toList();
     }
 
+    private List<ItemStack> generate(ItemGenerativeLootItem lootItem, int times) {
+        if (!LootProfiler.isInstrumented())
+            return times == 1 ? lootItem.generate(this.context) : lootItem.generate(this.context, times);
+
+        long startNanos = System.nanoTime();
+        long startAllocatedBytes = LootProfiler.getAllocatedBytes();
+        List<ItemStack> items = times == 1 ? lootItem.generate(this.context) : lootItem.generate(this.context, times);
+        LootProfiler.record(LootProfiler.Category.LOOT_ITEM, lootItem.getClass().getSimpleName(), !items.isEmpty(), startNanos, startAllocatedBytes);
+        return items;
+    }
+
     /**
      * Gets the experience amount created by this LootContents.
      * Handled separately from {@link LootContents#triggerExtras(Location)}.
@@ -99,21 +204,45 @@ public class LootContents {
      * @return the experience amount of this loot contents
      */
     public int getExperience() {
+        if (this.pregeneratedExperience != null)
+            return this.pregeneratedExperience;
+
         return this.contents.stream()
                 .filter(x -> x instanceof ExperienceGenerativeLootItem)
                 .map(x -> (ExperienceGenerativeLootItem) x)
-                .mapToInt(x -> x.generate(this.context))
+                .mapToInt(x -> {
+                    int times = this.getTimes(x);
+                    return times == 1 ? x.generate(this.context) : x.generate(this.context, times);
+                })
                 .sum();
     }
 
+    /**
+     * Generates the items and experience right away, so they can be created off the main thread.
+     * Until the contents change, {@link #getItems()} and {@link #getExperience()} return what was generated here,
+     * and calling this again does nothing.
+     */
+    public void pregenerate() {
+        if (this.pregeneratedItems != null)
+            return;
+
+        this.pregeneratedItems = this.getItems();
+        this.pregeneratedExperience = this.getExperience();
+    }
+
+    private void clearPregenerated() {
+        this.pregeneratedItems = null;
+        this.pregeneratedExperience = null;
+    }
+
     /**
      * @return the extra loot items which aren't an item or experience drop
      */
     public List<TriggerableLootItem> getExtras() {
-        return this.contents.stream()
+        return this.expand(this.contents.stream()
                 .filter(x -> x instanceof TriggerableLootItem)
                 .map(x -> (TriggerableLootItem) x)
-                .toList();
+                .toList());
     }
 
     /**
@@ -122,9 +251,8 @@ public class LootContents {
      * @param location The Location to execute the rest of the drops at
      */
     public void triggerExtras(Location location) {
-        this.contents.stream()
-                .filter(x -> x instanceof TriggerableLootItem)
-                .forEach(x -> ((TriggerableLootItem) x).trigger(this.context, location));
+        for (TriggerableLootItem lootItem : this.getExtras())
+            lootItem.trigger(this.context, location);
     }
 
     /**
@@ -138,21 +266,30 @@ public class LootContents {
      * Removes all ItemLootItems from the contents
      */
     public void removeItems() {
+        this.clearPregenerated();
         this.contents.removeIf(x -> x instanceof ItemGenerativeLootItem);
+        this.combinable.values().removeIf(x -> x instanceof ItemGenerativeLootItem);
+        this.repeats.keySet().removeIf(x -> x instanceof ItemGenerativeLootItem);
     }
 
     /**
      * Removes all ExperienceLootItems from the contents
      */
     public void removeExperience() {
+        this.clearPregenerated();
         this.contents.removeIf(x -> x instanceof ExperienceGenerativeLootItem);
+        this.combinable.values().removeIf(x -> x instanceof ExperienceGenerativeLootItem);
+        this.repeats.keySet().removeIf(x -> x instanceof ExperienceGenerativeLootItem);
     }
 
     /**
      * Removes all TriggerableLootItems from the contents
      */
     public void removeExtraTriggers() {
+        this.clearPregenerated();
         this.contents.removeIf(x -> x instanceof TriggerableLootItem);
+        this.combinable.values().removeIf(x -> x instanceof TriggerableLootItem);
+        this.repeats.keySet().removeIf(x -> x instanceof TriggerableLootItem);
     }
 
     /**
@@ -173,7 +310,8 @@ public class LootContents {
     }
 
     public void dropAtLocation(Location location) {
-        this.getItems().forEach(x -> location.getWorld().dropItemNaturally(location, x));
+        ItemDropManager itemDropManager = RoseLoot.getInstance().getManager(ItemDropManager.class);
+        this.getItems().forEach(x -> itemDropManager.dropItemNaturally(location, x));
 
         int experience = this.getExperience();
         if (experience > 0)
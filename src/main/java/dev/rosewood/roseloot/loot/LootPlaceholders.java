@@ -1,13 +1,16 @@
 package dev.rosewood.roseloot.loot;
 
-import dev.rosewood.rosegarden.utils.StringPlaceholders;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class LootPlaceholders {
 
+    private static final char DELIMITER = '%';
+
     private final Map<String, Object> placeholders;
-    private StringPlaceholders compiled;
+    private int modificationCount;
+    private Runnable deferredPlaceholders;
 
     public LootPlaceholders() {
         this.placeholders = new HashMap<>();
@@ -20,11 +23,10 @@ public class LootPlaceholders {
      * @param value The value of the placeholder
      */
     public void add(String key, Object value) {
-        this.compiled = null; // Any compiled placeholders will now be outdated and needs to be rebuilt
-
         key = key.toLowerCase();
+        this.modificationCount++;
 
-        Object existingValue = this.placeholders.get(key);
+        Object existingValue = this.resolve(key);
         if (existingValue == null) {
             this.placeholders.put(key, value);
             return;
@@ -40,6 +42,87 @@ public class LootPlaceholders {
         }
     }
 
+    /**
+     * Adds a placeholder to the loot placeholders that is only computed if it is used
+     *
+     * @param key The key of the placeholder
+     * @param valueSupplier Supplies the value of the placeholder
+     */
+    public void addLazy(String key, Supplier<Object> valueSupplier) {
+        key = key.toLowerCase();
+
+        if (this.placeholders.containsKey(key)) {
+            this.add(key, valueSupplier.get()); // Needs to be combined with the existing value right away
+        } else {
+            this.placeholders.put(key, new LazyValue(valueSupplier));
+            this.modificationCount++;
+        }
+    }
+
+    /**
+     * Sets placeholders to be added the first time any placeholder is read instead of right away, so generations that
+     * never read a placeholder don't pay for adding them. They are added as if they were added before all others.
+     *
+     * @param deferredPlaceholders Adds the deferred placeholders
+     */
+    public void setDeferred(Runnable deferredPlaceholders) {
+        this.deferredPlaceholders = deferredPlaceholders;
+    }
+
+    /**
+     * Adds the deferred placeholders now if they haven't been added yet
+     */
+    public void applyDeferred() {
+        Runnable deferredPlaceholders = this.deferredPlaceholders;
+        if (deferredPlaceholders == null)
+            return;
+
+        this.deferredPlaceholders = null;
+
+        // Add the placeholders added so far again after the deferred ones, nothing changes from the outside
+        int modificationCount = this.modificationCount;
+        Map<String, Object> added = new HashMap<>(this.placeholders);
+        this.placeholders.clear();
+        deferredPlaceholders.run();
+        for (Map.Entry<String, Object> entry : added.entrySet()) {
+            if (entry.getValue() instanceof LazyValue lazyValue) {
+                this.addLazy(entry.getKey(), lazyValue.supplier());
+            } else {
+                this.add(entry.getKey(), entry.getValue());
+            }
+        }
+        this.modificationCount = modificationCount;
+    }
+
+    /**
+     * @return the number of times a placeholder has been added, changes whenever a placeholder value may have changed
+     */
+    public int getModificationCount() {
+        return this.modificationCount;
+    }
+
+    /**
+     * Gets the value of a placeholder, computing it if it was added lazily
+     *
+     * @param key The key of the placeholder
+     * @return The value of the placeholder, or null if it does not exist
+     */
+    public Object get(String key) {
+        this.applyDeferred();
+        return this.resolve(key.toLowerCase());
+    }
+
+    /**
+     * Gets the value of a placeholder formatted as it would be when applied to a string
+     *
+     * @param key The key of the placeholder
+     * @return The formatted value of the placeholder, or null if it does not exist
+     */
+    public String getFormatted(String key) {
+        Object value = this.get(key);
+        return value != null ? format(value) : null;
+    }
+
     /**
      * Applies the placeholders to the given string
      *
@@ -47,32 +130,60 @@ public class LootPlaceholders {
      * @return The string with the placeholders applied
      */
     public String apply(String string) {
-        if (this.compiled == null)
-            this.compile();
+        int start = string.indexOf(DELIMITER);
+        if (start == -1)
+            return string;
 
-        return this.compiled.apply(string);
-    }
+        this.applyDeferred();
+        StringBuilder builder = null;
+        int copied = 0;
+        while (start != -1) {
+            int end = string.indexOf(DELIMITER, start + 1);
+            if (end == -1)
+                break;
 
-    /**
-     * Compiles the placeholders into a StringPlaceholders object
-     */
-    private void compile() {
-        StringPlaceholders.Builder builder = StringPlaceholders.builder();
-
-        for (Map.Entry<String, Object> entry : this.placeholders.entrySet()) {
-            String key = entry.getKey();
-            Object value = entry.getValue();
-            if (value instanceof Number) {
-                double numberValue = ((Number) value).doubleValue();
-                int intValue = (int) numberValue;
-                if (numberValue == intValue) // Cast floating point number to an int if there are no decimals
-                    value = intValue;
+            Object value = this.resolve(string.substring(start + 1, end));
+            if (value == null) {
+                start = end; // The closing delimiter may be the start of another placeholder
+                continue;
             }
 
-            builder.add(key, value);
+            if (builder == null)
+                builder = new StringBuilder(string.length());
+            builder.append(string, copied, start).append(format(value));
+            copied = end + 1;
+            start = string.indexOf(DELIMITER, copied);
         }
 
-        this.compiled = builder.build();
+        if (builder == null)
+            return string;
+
+        return builder.append(string, copied, string.length()).toString();
     }
 
+    private Object resolve(String key) {
+        Object value = this.placeholders.get(key);
+        if (value instanceof LazyValue lazyValue) {
+            value = lazyValue.supplier().get();
+            if (value == null) {
+                this.placeholders.remove(key);
+            } else {
+                this.placeholders.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    private static String format(Object value) {
+        if (value instanceof Number number) {
+            double numberValue = number.doubleValue();
+            int intValue = (int) numberValue;
+            if (numberValue == intValue) // Cast floating point number to an int if there are no decimals
+                return String.valueOf(intValue);
+        }
+        return String.valueOf(value);
+    }
+
+    private record LazyValue(Supplier<Object> supplier) { }
+
 }
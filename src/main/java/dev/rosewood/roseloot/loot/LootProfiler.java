@@ -0,0 +1,239 @@
+package dev.rosewood.roseloot.loot;
+
+import dev.rosewood.roseloot.loot.condition.CompiledLootConditions;
+import dev.rosewood.roseloot.loot.condition.LootCondition;
+import dev.rosewood.roseloot.loot.context.LootContext;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how often loot tables, components, conditions and loot items run, how often they pass, and how much time
+ * and memory they take. Times are inclusive, a loot table's time includes the time of its components.
+ * <br>
+ * Counters are striped so threads generating loot at the same time don't contend on them. While neither the profiler
+ * nor the {@link LootTracer} is running, instrumented code only pays for a single check of {@link #isInstrumented()}.
+ */
+public final class LootProfiler {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = findThreadMXBean();
+    private static final Map<Category, Map<String, Stats>> STATS = new EnumMap<>(Category.class);
+    static {
+        for (Category category : Category.values())
+            STATS.put(category, new ConcurrentHashMap<>());
+    }
+
+    private static volatile boolean enabled;
+    private static volatile boolean instrumented;
+    private static volatile long startTime;
+    private static volatile long stopTime;
+
+    private LootProfiler() {
+
+    }
+
+    /**
+     * @return true if the profiler is currently recording
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return true if either the profiler or the {@link LootTracer} needs instrumented code to report what it does
+     */
+    public static boolean isInstrumented() {
+        return instrumented;
+    }
+
+    static void updateInstrumented() {
+        instrumented = enabled || LootTracer.isEnabled();
+    }
+
+    /**
+     * Clears everything recorded so far and starts recording
+     */
+    public static void start() {
+        STATS.values().forEach(Map::clear);
+        startTime = System.currentTimeMillis();
+        stopTime = 0;
+        enabled = true;
+        updateInstrumented();
+    }
+
+    /**
+     * Stops recording, the recorded results are kept until the profiler is started again
+     */
+    public static void stop() {
+        if (!enabled)
+            return;
+
+        enabled = false;
+        stopTime = System.currentTimeMillis();
+        updateInstrumented();
+    }
+
+    /**
+     * @return the length of the sampling window in milliseconds, up to now if the profiler is still recording
+     */
+    public static long getSampleDuration() {
+        if (startTime == 0)
+            return 0;
+        return (enabled || stopTime == 0 ? System.currentTimeMillis() : stopTime) - startTime;
+    }
+
+    /**
+     * @return the number of bytes allocated by the current thread so far, or 0 if the profiler is not running or the
+     * JVM doesn't support measuring it
+     */
+    public static long getAllocatedBytes() {
+        return enabled && THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    /**
+     * Records a single invocation, and passes it on to the {@link LootTracer}
+     *
+     * @param category The category of what was invoked
+     * @param subject What was invoked, recorded by the name given by its {@link Object#toString()}
+     * @param passed Whether the invocation passed, always true for invocations that can't fail
+     * @param startNanos The value of {@link System#nanoTime()} when the invocation started
+     * @param startAllocatedBytes The value of {@link #getAllocatedBytes()} when the invocation started
+     */
+    public static void record(Category category, Object subject, boolean passed, long startNanos, long startAllocatedBytes) {
+        long nanos = System.nanoTime() - startNanos;
+        LootTracer.check(category, subject, passed, startNanos, nanos);
+        if (!enabled || startAllocatedBytes == 0 && THREAD_MX_BEAN != null)
+            return; // Not running, or started while this invocation was running
+
+        long allocatedBytes = getAllocatedBytes() - startAllocatedBytes;
+        Stats stats = STATS.get(category).computeIfAbsent(subject.toString(), x -> new Stats());
+        stats.invocations.increment();
+        if (passed)
+            stats.passes.increment();
+        stats.totalNanos.add(nanos);
+        stats.maxNanos.accumulate(nanos);
+        stats.allocatedBytes.add(allocatedBytes);
+    }
+
+    /**
+     * Records the time and memory spent on something without counting it as another invocation,
+     * for work that follows an invocation that was already recorded
+     *
+     * @param category The category of what was invoked
+     * @param name The name of what was invoked
+     * @param startNanos The value of {@link System#nanoTime()} when the work started
+     * @param startAllocatedBytes The value of {@link #getAllocatedBytes()} when the work started
+     */
+    public static void recordTime(Category category, String name, long startNanos, long startAllocatedBytes) {
+        long nanos = System.nanoTime() - startNanos;
+        if (!enabled || startAllocatedBytes == 0 && THREAD_MX_BEAN != null)
+            return;
+
+        long allocatedBytes = getAllocatedBytes() - startAllocatedBytes;
+        Stats stats = STATS.get(category).computeIfAbsent(name, x -> new Stats());
+        stats.totalNanos.add(nanos);
+        stats.maxNanos.accumulate(nanos);
+        stats.allocatedBytes.add(allocatedBytes);
+    }
+
+    /**
+     * Checks conditions while recording each of them.
+     * Each condition within {@link CompiledLootConditions} records itself, so they are not recorded again here.
+     *
+     * @param condition The condition to check
+     * @param context The LootContext
+     * @return true if the condition passed
+     */
+    public static boolean checkCondition(LootCondition condition, LootContext context) {
+        if (condition == LootCondition.ALWAYS_TRUE || condition instanceof CompiledLootConditions)
+            return condition.check(context);
+
+        long startNanos = System.nanoTime();
+        long startAllocatedBytes = getAllocatedBytes();
+        boolean passed = context.checkCondition(condition);
+        record(Category.CONDITION, condition, passed, startNanos, startAllocatedBytes);
+        return passed;
+    }
+
+    /**
+     * Gets the recorded results of a category
+     *
+     * @param category The category
+     * @param sort How to sort the results, highest first
+     * @param limit The maximum number of results
+     * @return the recorded results
+     */
+    public static List<Result> getResults(Category category, Sort sort, int limit) {
+        return STATS.get(category).entrySet().stream()
+                .map(x -> x.getValue().toResult(x.getKey()))
+                .sorted(sort.comparator.reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private static com.sun.management.ThreadMXBean findThreadMXBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+                    && threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled())
+                return threadMXBean;
+        } catch (Throwable ignored) { }
+        return null;
+    }
+
+    public enum Category {
+        LOOT_TABLE_TYPE,
+        LOOT_TABLE,
+        COMPONENT,
+        CONDITION,
+        LOOT_ITEM
+    }
+
+    public enum Sort {
+        TOTAL_TIME(Comparator.comparingLong(Result::totalNanos)),
+        MAX_TIME(Comparator.comparingLong(Result::maxNanos)),
+        AVERAGE_TIME(Comparator.comparingDouble(Result::getAverageNanos)),
+        INVOCATIONS(Comparator.comparingLong(Result::invocations)),
+        ALLOCATED(Comparator.comparingLong(Result::allocatedBytes));
+
+        private final Comparator<Result> comparator;
+
+        Sort(Comparator<Result> comparator) {
+            this.comparator = comparator;
+        }
+    }
+
+    public record Result(String name, long invocations, long passes, long totalNanos, long maxNanos, long allocatedBytes) {
+
+        /**
+         * @return the percentage of invocations that passed between 0-100
+         */
+        public double getPassRate() {
+            return this.invocations == 0 ? 0 : this.passes * 100.0 / this.invocations;
+        }
+
+        public double getAverageNanos() {
+            return this.invocations == 0 ? 0 : (double) this.totalNanos / this.invocations;
+        }
+
+    }
+
+    private static class Stats {
+
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder passes = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        public Result toResult(String name) {
+            return new Result(name, this.invocations.sum(), this.passes.sum(), this.totalNanos.sum(), this.maxNanos.get(), this.allocatedBytes.sum());
+        }
+
+    }
+
+}
@@ -1,5 +1,6 @@
 package dev.rosewood.roseloot.loot;
 
+import dev.rosewood.roseloot.loot.condition.CompiledLootConditions;
 import dev.rosewood.roseloot.loot.condition.LootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.table.LootTableType;
@@ -12,26 +13,45 @@ public class LootTable implements LootContentsPopulator {
     private final String name;
     private final LootTableType type;
     private final List<LootCondition> conditions;
+    private final LootCondition compiledConditions;
     private final List<LootComponent> components;
+    private final LootComponent[] componentArray;
     private final Set<OverwriteExisting> overwriteExisting;
     private final boolean allowRecursion;
+    private final boolean snapshotSafe;
+    private final boolean batchable;
 
-    public LootTable(String name, LootTableType type, List<LootCondition> conditions, List<LootComponent> components, Set<OverwriteExisting> overwriteExisting, boolean allowRecursion) {
+    public LootTable(String name, LootTableType type, List<LootCondition> conditions, List<LootComponent> components, Set<OverwriteExisting> overwriteExisting, boolean allowRecursion, Boolean snapshotSafe) {
         this.name = name;
         this.type = type;
         this.conditions = conditions;
+        this.compiledConditions = CompiledLootConditions.compile(conditions);
         this.components = components;
+        this.componentArray = components.toArray(LootComponent[]::new);
         this.overwriteExisting = overwriteExisting;
         this.allowRecursion = allowRecursion;
+        this.batchable = components.stream().allMatch(LootComponent::isSnapshotSafe);
+        this.snapshotSafe = snapshotSafe != null ? snapshotSafe : this.batchable;
     }
 
     @Override
     public void populate(LootContext context, LootContents contents) {
+        if (LootProfiler.isInstrumented()) {
+            long startNanos = System.nanoTime();
+            long startAllocatedBytes = LootProfiler.getAllocatedBytes();
+            this.populateComponents(context, contents);
+            LootProfiler.recordTime(LootProfiler.Category.LOOT_TABLE, this.name, startNanos, startAllocatedBytes);
+        } else {
+            this.populateComponents(context, contents);
+        }
+    }
+
+    private void populateComponents(LootContext context, LootContents contents) {
         this.type.validateLootContext(context);
 
         context.setCurrentLootTable(this);
 
-        for (LootComponent component : this.components) {
+        for (LootComponent component : this.componentArray) {
             if (!component.check(context))
                 continue;
 
@@ -39,6 +59,37 @@ public class LootTable implements LootContentsPopulator {
         }
     }
 
+    /**
+     * Populates this LootTable the given number of times as if each were a separate run with the same LootContext
+     *
+     * @param context The LootContext
+     * @param contents The LootContents to populate
+     * @param runs The number of runs to populate
+     * @see LootComponent#populateBatch(LootContext, LootContents, int)
+     */
+    public void populateBatch(LootContext context, LootContents contents, int runs) {
+        if (runs <= 0)
+            return;
+
+        if (LootProfiler.isInstrumented()) {
+            long startNanos = System.nanoTime();
+            long startAllocatedBytes = LootProfiler.getAllocatedBytes();
+            this.populateComponentsBatch(context, contents, runs);
+            LootProfiler.recordTime(LootProfiler.Category.LOOT_TABLE, this.name, startNanos, startAllocatedBytes);
+        } else {
+            this.populateComponentsBatch(context, contents, runs);
+        }
+    }
+
+    private void populateComponentsBatch(LootContext context, LootContents contents, int runs) {
+        this.type.validateLootContext(context);
+
+        context.setCurrentLootTable(this);
+
+        for (LootComponent component : this.componentArray)
+            component.populateBatch(context, contents, component.checkBatch(context, runs));
+    }
+
     @Override
     public List<ItemStack> getAllItems(LootContext context) {
         return this.components.stream().flatMap(x -> x.getAllItems(context).stream()).toList();
@@ -46,7 +97,25 @@ public class LootTable implements LootContentsPopulator {
 
     @Override
     public boolean check(LootContext context) {
-        return this.conditions.stream().allMatch(x -> x.check(context));
+        if (!LootProfiler.isInstrumented())
+            return this.compiledConditions.check(context);
+
+        long startNanos = System.nanoTime();
+        long startAllocatedBytes = LootProfiler.getAllocatedBytes();
+        boolean passed = LootProfiler.checkCondition(this.compiledConditions, context);
+        LootProfiler.record(LootProfiler.Category.LOOT_TABLE, this.name, passed, startNanos, startAllocatedBytes);
+        return passed;
+    }
+
+    /**
+     * Checks the conditions of this LootTable for the given number of runs with the same LootContext
+     *
+     * @param context The LootContext
+     * @param runs The number of runs to check
+     * @return the number of runs that passed
+     */
+    public int checkBatch(LootContext context, int runs) {
+        return LootComponent.checkConditionsBatch(this.compiledConditions, context, runs);
     }
 
     /**
@@ -63,6 +132,13 @@ public class LootTable implements LootContentsPopulator {
         return this.type;
     }
 
+    /**
+     * @return the top level conditions of this LootTable
+     */
+    public List<LootCondition> getConditions() {
+        return this.conditions;
+    }
+
     /**
      * @return the overwrite-existing values defined in the LootTable
      */
@@ -77,4 +153,24 @@ public class LootTable implements LootContentsPopulator {
         return this.allowRecursion;
     }
 
+    /**
+     * The conditions of the LootTable itself are always checked on the main thread, this only covers populating it.
+     * Inferred from the components unless the LootTable declares it with {@code snapshot-safe}.
+     *
+     * @return true if this LootTable can be populated off the main thread using a {@link LootContext#snapshot()}
+     */
+    public boolean isSnapshotSafe() {
+        return this.snapshotSafe;
+    }
+
+    /**
+     * Always inferred from the components and their LootItems, {@code snapshot-safe} only allows populating off the
+     * main thread and does not make it safe to reuse the same LootItems for many runs at once.
+     *
+     * @return true if this LootTable can be populated for many runs with the same LootContext at once
+     */
+    public boolean isBatchable() {
+        return this.batchable;
+    }
+
 }
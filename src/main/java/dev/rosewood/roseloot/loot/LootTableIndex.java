@@ -0,0 +1,205 @@
+package dev.rosewood.roseloot.loot;
+
+import dev.rosewood.roseloot.loot.condition.LootCondition;
+import dev.rosewood.roseloot.loot.condition.tags.BiomeCondition;
+import dev.rosewood.roseloot.loot.condition.tags.BlockTypeCondition;
+import dev.rosewood.roseloot.loot.condition.tags.DimensionCondition;
+import dev.rosewood.roseloot.loot.condition.tags.EntityTypeCondition;
+import dev.rosewood.roseloot.loot.condition.tags.VanillaLootTableCondition;
+import dev.rosewood.roseloot.loot.condition.tags.WorldCondition;
+import dev.rosewood.roseloot.loot.context.LootContext;
+import dev.rosewood.roseloot.loot.context.LootContextParams;
+import dev.rosewood.roseloot.util.BlockInfo;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+
+/**
+ * Narrows down the LootTables of a single LootTableType to the ones that can possibly pass for a LootContext.
+ * <br>
+ * The index is built from the discriminating conditions found at the top level of each LootTable's conditions list.
+ * Since top level conditions must all pass, a LootTable requiring a value that the LootContext does not have can be
+ * skipped without being checked. Candidates are still checked normally, this only filters out guaranteed failures.
+ */
+public class LootTableIndex {
+
+    // Partitions are checked in this order, the biome lookup is the most expensive so it goes last and is skipped
+    // whenever the other partitions already ruled out every LootTable
+    private static final List<IndexKey<?>> INDEX_KEYS = List.of(
+            new IndexKey<>(BlockTypeCondition.class, BlockTypeCondition::getBlockTypes,
+                    context -> context.getLootedBlockInfo().map(BlockInfo::getMaterial).orElse(null)),
+            new IndexKey<>(EntityTypeCondition.class, EntityTypeCondition::getEntityTypes,
+                    context -> context.get(LootContextParams.LOOTED_ENTITY).map(LivingEntity::getType).orElse(null)),
+            new IndexKey<>(WorldCondition.class, x -> x.getWorlds().stream().map(String::toLowerCase).toList(),
+                    context -> context.get(LootContextParams.ORIGIN).map(Location::getWorld).map(x -> x.getName().toLowerCase()).orElse(null)),
+            new IndexKey<>(VanillaLootTableCondition.class, VanillaLootTableCondition::getVanillaLootTableKeys,
+                    context -> context.get(LootContextParams.VANILLA_LOOT_TABLE_KEY).orElse(null)),
+            new IndexKey<>(BiomeCondition.class, BiomeCondition::getBiomes,
+                    context -> context.get(LootContextParams.ORIGIN).map(x -> x.getBlock().getBiome()).orElse(null))
+    );
+
+    private final List<LootTable> lootTables;
+    private final List<Partition> partitions;
+
+    public LootTableIndex(Collection<LootTable> lootTables) {
+        this.lootTables = List.copyOf(lootTables);
+        this.partitions = new ArrayList<>();
+
+        for (IndexKey<?> indexKey : INDEX_KEYS) {
+            Partition partition = indexKey.partition(this.lootTables);
+            if (partition != null)
+                this.partitions.add(partition);
+        }
+    }
+
+    /**
+     * Gets the LootTables that may pass their conditions for the given LootContext, in registration order
+     *
+     * @param context The LootContext
+     * @return the candidate LootTables
+     */
+    public List<LootTable> getCandidates(LootContext context) {
+        if (this.partitions.isEmpty())
+            return this.lootTables;
+
+        BitSet candidates = null;
+        for (Partition partition : this.partitions) {
+            BitSet allowed = partition.getAllowed(context);
+            if (candidates == null) {
+                candidates = allowed;
+            } else {
+                candidates.and(allowed);
+            }
+
+            if (candidates.isEmpty())
+                return List.of();
+        }
+
+        List<LootTable> lootTables = new ArrayList<>(candidates.cardinality());
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1))
+            lootTables.add(this.lootTables.get(i));
+        return lootTables;
+    }
+
+    /**
+     * Narrows this index down to the LootTables that can pass in a world, based on their top level world and dimension
+     * conditions. Only valid for LootContexts with an origin in that world.
+     *
+     * @param world The world
+     * @return an index containing only the LootTables that can pass in the world, or null if there are none
+     */
+    public LootTableIndex forWorld(World world) {
+        List<LootTable> lootTables = this.lootTables.stream()
+                .filter(x -> canPassInWorld(x, world))
+                .toList();
+
+        if (lootTables.isEmpty())
+            return null;
+        return lootTables.size() == this.lootTables.size() ? this : new LootTableIndex(lootTables);
+    }
+
+    private static boolean canPassInWorld(LootTable lootTable, World world) {
+        for (LootCondition condition : lootTable.getConditions()) {
+            if (condition instanceof WorldCondition worldCondition && worldCondition.getWorlds().stream().noneMatch(x -> x.equalsIgnoreCase(world.getName())))
+                return false;
+
+            if (condition instanceof DimensionCondition dimensionCondition && !dimensionCondition.getDimensions().contains(world.getEnvironment()))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return all LootTables contained in this index, in registration order
+     */
+    public List<LootTable> getLootTables() {
+        return this.lootTables;
+    }
+
+    /**
+     * @return true if this index contains no LootTables
+     */
+    public boolean isEmpty() {
+        return this.lootTables.isEmpty();
+    }
+
+    /**
+     * Describes how a discriminating condition type is indexed
+     *
+     * @param conditionClass The class of the condition
+     * @param valuesFunction Gets the values the condition matches
+     * @param contextFunction Gets the value to look up from a LootContext, or null if the LootContext has none
+     * @param <C> The type of the condition
+     */
+    private record IndexKey<C extends LootCondition>(Class<C> conditionClass,
+                                                     Function<C, Collection<?>> valuesFunction,
+                                                     Function<LootContext, Object> contextFunction) {
+
+        /**
+         * Builds a partition of the given LootTables for this key
+         *
+         * @param lootTables The LootTables to partition
+         * @return the built partition, or null if no LootTables use a condition of this type
+         */
+        public Partition partition(List<LootTable> lootTables) {
+            Map<Object, BitSet> valueTables = new HashMap<>();
+            BitSet unrestricted = new BitSet(lootTables.size());
+            boolean used = false;
+
+            for (int i = 0; i < lootTables.size(); i++) {
+                C condition = this.findCondition(lootTables.get(i));
+                if (condition == null) {
+                    unrestricted.set(i);
+                    continue;
+                }
+
+                used = true;
+                for (Object value : this.valuesFunction.apply(condition))
+                    if (value != null)
+                        valueTables.computeIfAbsent(value, x -> new BitSet(lootTables.size())).set(i);
+            }
+
+            return used ? new Partition(this.contextFunction, valueTables, unrestricted) : null;
+        }
+
+        private C findCondition(LootTable lootTable) {
+            for (LootCondition condition : lootTable.getConditions())
+                if (this.conditionClass.isInstance(condition))
+                    return this.conditionClass.cast(condition);
+            return null;
+        }
+
+    }
+
+    /**
+     * LootTables split by the value they require for a single condition type
+     *
+     * @param contextFunction Gets the value to look up from a LootContext
+     * @param valueTables The LootTables requiring each value
+     * @param unrestricted The LootTables without a condition of this type
+     */
+    private record Partition(Function<LootContext, Object> contextFunction,
+                             Map<Object, BitSet> valueTables,
+                             BitSet unrestricted) {
+
+        public BitSet getAllowed(LootContext context) {
+            BitSet allowed = (BitSet) this.unrestricted.clone();
+            Object value = this.contextFunction.apply(context);
+            if (value != null) {
+                BitSet matching = this.valueTables.get(value);
+                if (matching != null)
+                    allowed.or(matching);
+            }
+            return allowed;
+        }
+
+    }
+
+}
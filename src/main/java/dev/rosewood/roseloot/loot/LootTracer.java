@@ -0,0 +1,325 @@
+package dev.rosewood.roseloot.loot;
+
+import dev.rosewood.roseloot.loot.item.LootItem;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Captures the full decision path of loot generations that take longer than a threshold.
+ * <br>
+ * While enabled, every generation records what it checks and picks into arrays owned by the generating thread, which
+ * are reused for every generation so recording an event doesn't allocate. The recorded events only hold references to
+ * what was checked, they are only turned into text if the generation turns out to be slow. Slow traces are kept in a fixed size ring buffer, the oldest trace is overwritten once it is full.
+ */
+public final class LootTracer {
+
+    /**
+     * The most events recorded for a single generation, anything past this is dropped
+     */
+    private static final int MAX_EVENTS = 10000;
+
+    private static final ThreadLocal<ActiveTrace> ACTIVE_TRACE = ThreadLocal.withInitial(ActiveTrace::new);
+
+    private static volatile boolean enabled;
+    private static volatile long thresholdNanos;
+    private static volatile TraceBuffer buffer = new TraceBuffer(0);
+
+    private LootTracer() {
+
+    }
+
+    /**
+     * Changes the tracer settings, clears all captured traces if the buffer size changes
+     *
+     * @param enable Whether generations should be traced
+     * @param thresholdMillis How long a generation must take for its trace to be kept, in milliseconds
+     * @param bufferSize The maximum number of traces to keep
+     */
+    public static void configure(boolean enable, long thresholdMillis, int bufferSize) {
+        thresholdNanos = Math.max(0, thresholdMillis) * 1_000_000;
+        if (buffer.size() != bufferSize)
+            buffer = new TraceBuffer(Math.max(0, bufferSize));
+        enabled = enable && bufferSize > 0;
+        LootProfiler.updateInstrumented();
+    }
+
+    /**
+     * @return true if generations are being traced
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts tracing a generation on the current thread, does nothing if one is already being traced
+     *
+     * @param name The name of what is being generated
+     * @return true if a new trace was started and must be finished with {@link #end(LootContents)}
+     */
+    public static boolean begin(String name) {
+        if (!enabled)
+            return false;
+
+        ActiveTrace trace = ACTIVE_TRACE.get();
+        if (trace.name != null)
+            return false; // Nested generation, its events become part of the outer trace
+
+        trace.name = name;
+        trace.startNanos = System.nanoTime();
+        return true;
+    }
+
+    /**
+     * Finishes the generation being traced on the current thread, the trace is kept if it took longer than the threshold.
+     * The items and experience of a kept trace are generated right away with {@link LootContents#pregenerate()} so the
+     * trace shows exactly what will be dropped.
+     *
+     * @param lootContents The generated loot contents, or null if the generation failed
+     */
+    public static void end(LootContents lootContents) {
+        ActiveTrace trace = ACTIVE_TRACE.get();
+        if (trace.name == null)
+            return;
+
+        long nanos = System.nanoTime() - trace.startNanos;
+        try {
+            if (enabled && nanos >= thresholdNanos)
+                buffer.add(trace.toTrace(nanos, lootContents));
+        } finally {
+            trace.reset();
+        }
+    }
+
+    /**
+     * Records a check that happened as part of the generation being traced on the current thread
+     *
+     * @param category What kind of thing was checked
+     * @param subject What was checked, only turned into text if the trace is kept
+     * @param passed Whether the check passed
+     * @param startNanos The value of {@link System#nanoTime()} when the check started
+     * @param nanos How long the check took, in nanoseconds
+     */
+    public static void check(LootProfiler.Category category, Object subject, boolean passed, long startNanos, long nanos) {
+        if (enabled)
+            ACTIVE_TRACE.get().add(EventType.CHECK, category, subject, passed ? 1 : 0, startNanos, nanos);
+    }
+
+    /**
+     * Records the number of times a component rolls its weighted children
+     *
+     * @param component The component
+     * @param rolls The number of rolls
+     */
+    public static void rolls(LootComponent component, int rolls) {
+        if (enabled)
+            ACTIVE_TRACE.get().add(EventType.ROLLS, LootProfiler.Category.COMPONENT, component, rolls, System.nanoTime(), 0);
+    }
+
+    /**
+     * Records a weighted child being picked
+     *
+     * @param component The picked child, or null if no child could be picked
+     */
+    public static void picked(LootComponent component) {
+        if (enabled)
+            ACTIVE_TRACE.get().add(EventType.PICKED, LootProfiler.Category.COMPONENT, component, 0, System.nanoTime(), 0);
+    }
+
+    /**
+     * @return the captured traces, oldest first
+     */
+    public static List<Trace> getTraces() {
+        return buffer.snapshot();
+    }
+
+    /**
+     * Writes all captured traces to a file
+     *
+     * @param file The file to write to
+     * @return the number of traces written
+     * @throws IOException if the file could not be written
+     */
+    public static int dump(File file) throws IOException {
+        List<Trace> traces = getTraces();
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists())
+            parent.mkdirs();
+
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+        try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            for (Trace trace : traces) {
+                writer.write(String.format("[%s] %s on %s took %.3fms", dateFormat.format(new Date(trace.timestamp())), trace.name(), trace.thread(), trace.nanos() / 1_000_000.0));
+                writer.newLine();
+                for (String line : trace.lines()) {
+                    writer.write("  ");
+                    writer.write(line);
+                    writer.newLine();
+                }
+                writer.newLine();
+            }
+        }
+        return traces.size();
+    }
+
+    private enum EventType {
+        CHECK,
+        ROLLS,
+        PICKED
+    }
+
+    /**
+     * A captured trace of a slow generation
+     *
+     * @param timestamp When the generation finished, in milliseconds since the epoch
+     * @param name The name of what was generated
+     * @param thread The name of the thread that generated it
+     * @param nanos How long the generation took, in nanoseconds
+     * @param lines The events of the generation in the order they finished
+     */
+    public record Trace(long timestamp, String name, String thread, long nanos, List<String> lines) { }
+
+    /**
+     * The trace being recorded on a thread, reused for every generation on that thread.
+     * Events are stored in parallel arrays that only grow, and hold on to the subject instead of its text to keep
+     * recording cheap.
+     */
+    private static class ActiveTrace {
+
+        private static final int INITIAL_CAPACITY = 256;
+
+        private EventType[] types = new EventType[INITIAL_CAPACITY];
+        private LootProfiler.Category[] categories = new LootProfiler.Category[INITIAL_CAPACITY];
+        private Object[] subjects = new Object[INITIAL_CAPACITY];
+        private int[] values = new int[INITIAL_CAPACITY];
+        private long[] offsets = new long[INITIAL_CAPACITY];
+        private long[] durations = new long[INITIAL_CAPACITY];
+        private int size;
+        private String name;
+        private long startNanos;
+        private int dropped;
+
+        public void add(EventType type, LootProfiler.Category category, Object subject, int value, long startNanos, long nanos) {
+            if (this.name == null)
+                return;
+
+            if (this.size == this.types.length && !this.grow()) {
+                this.dropped++;
+                return;
+            }
+
+            int index = this.size++;
+            this.types[index] = type;
+            this.categories[index] = category;
+            this.subjects[index] = subject;
+            this.values[index] = value;
+            this.offsets[index] = startNanos - this.startNanos;
+            this.durations[index] = nanos;
+        }
+
+        private boolean grow() {
+            if (this.types.length >= MAX_EVENTS)
+                return false;
+
+            int capacity = Math.min(this.types.length * 2, MAX_EVENTS);
+            this.types = Arrays.copyOf(this.types, capacity);
+            this.categories = Arrays.copyOf(this.categories, capacity);
+            this.subjects = Arrays.copyOf(this.subjects, capacity);
+            this.values = Arrays.copyOf(this.values, capacity);
+            this.offsets = Arrays.copyOf(this.offsets, capacity);
+            this.durations = Arrays.copyOf(this.durations, capacity);
+            return true;
+        }
+
+        private String describe(int index) {
+            String offset = String.format("+%.3fms", this.offsets[index] / 1_000_000.0);
+            Object subject = this.subjects[index];
+            String subjectName = subject instanceof LootComponent component ? component.getPath() : String.valueOf(subject);
+            String category = this.categories[index].name().toLowerCase();
+            return switch (this.types[index]) {
+                case CHECK -> String.format("%s %s %s %s in %.3fms", offset, category, subjectName, this.values[index] != 0 ? "passed" : "failed", this.durations[index] / 1_000_000.0);
+                case ROLLS -> String.format("%s %s %s rolled %d times", offset, category, subjectName, this.values[index]);
+                case PICKED -> String.format("%s picked %s", offset, subject != null ? subjectName : "nothing");
+            };
+        }
+
+        public Trace toTrace(long nanos, LootContents lootContents) {
+            List<String> lines = new ArrayList<>(this.size + 1);
+            for (int i = 0; i < this.size; i++)
+                lines.add(this.describe(i));
+            if (this.dropped > 0)
+                lines.add(this.dropped + " more events were dropped");
+            if (lootContents != null) {
+                lootContents.pregenerate();
+                for (ItemStack itemStack : lootContents.getItems())
+                    lines.add("generated " + itemStack.getType().getKey().getKey() + " x" + itemStack.getAmount());
+
+                int experience = lootContents.getExperience();
+                if (experience > 0)
+                    lines.add("generated " + experience + " experience");
+
+                for (LootItem lootItem : lootContents.getExtras())
+                    lines.add("triggers " + lootItem.getClass().getSimpleName());
+            }
+            return new Trace(System.currentTimeMillis(), this.name, Thread.currentThread().getName(), nanos, List.copyOf(lines));
+        }
+
+        public void reset() {
+            Arrays.fill(this.subjects, 0, this.size, null);
+            this.size = 0;
+            this.name = null;
+            this.dropped = 0;
+        }
+
+    }
+
+    /**
+     * A fixed size ring buffer that threads can add to without locking
+     */
+    private static class TraceBuffer {
+
+        private final AtomicReferenceArray<Trace> traces;
+        private final AtomicLong next;
+
+        public TraceBuffer(int size) {
+            this.traces = new AtomicReferenceArray<>(size);
+            this.next = new AtomicLong();
+        }
+
+        public int size() {
+            return this.traces.length();
+        }
+
+        public void add(Trace trace) {
+            if (this.traces.length() == 0)
+                return;
+
+            int index = (int) (this.next.getAndIncrement() % this.traces.length());
+            this.traces.set(index, trace);
+        }
+
+        public List<Trace> snapshot() {
+            int size = this.traces.length();
+            long next = this.next.get();
+            List<Trace> snapshot = new ArrayList<>(size);
+            for (long i = Math.max(0, next - size); i < next; i++) {
+                Trace trace = this.traces.get((int) (i % size));
+                if (trace != null)
+                    snapshot.add(trace);
+            }
+            return snapshot;
+        }
+
+    }
+
+}
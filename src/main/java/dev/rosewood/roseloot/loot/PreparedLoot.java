@@ -0,0 +1,81 @@
+package dev.rosewood.roseloot.loot;
+
+import dev.rosewood.roseloot.loot.context.LootContext;
+import dev.rosewood.roseloot.loot.table.LootTableType;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The LootTables that passed their conditions for a LootContext, before any of them have been populated.
+ * Allows acting on the overwrite-existing values right away while the loot itself is generated later.
+ */
+public class PreparedLoot {
+
+    private final LootTableType lootTableType;
+    private final LootContext lootContext;
+    private final List<LootTable> lootTables;
+    private final Set<OverwriteExisting> overwriteExisting;
+
+    public PreparedLoot(LootTableType lootTableType, LootContext lootContext, List<LootTable> lootTables, Set<OverwriteExisting> overwriteExisting) {
+        this.lootTableType = lootTableType;
+        this.lootContext = lootContext;
+        this.lootTables = lootTables;
+        this.overwriteExisting = overwriteExisting;
+    }
+
+    /**
+     * @return the LootTableType of the LootTables
+     */
+    public LootTableType getLootTableType() {
+        return this.lootTableType;
+    }
+
+    /**
+     * @return the LootContext the LootTables were checked with
+     */
+    public LootContext getLootContext() {
+        return this.lootContext;
+    }
+
+    /**
+     * @return the LootTables that passed their conditions, in the order they will be populated
+     */
+    public List<LootTable> getLootTables() {
+        return this.lootTables;
+    }
+
+    /**
+     * @return the overwrite-existing values of all the LootTables that passed their conditions
+     */
+    public Set<OverwriteExisting> getOverwriteExistingValues() {
+        return this.overwriteExisting;
+    }
+
+    /**
+     * Checks if the given OverwriteExisting value is set by any of the LootTables that passed their conditions
+     *
+     * @param overwriteExisting The OverwriteExisting value to check
+     * @return true if the value is set
+     */
+    public boolean doesOverwriteExisting(OverwriteExisting overwriteExisting) {
+        return this.overwriteExisting.contains(overwriteExisting);
+    }
+
+    /**
+     * @return true if no LootTables passed their conditions
+     */
+    public boolean isEmpty() {
+        return this.lootTables.isEmpty();
+    }
+
+    /**
+     * @return true if all the LootTables that passed their conditions can be populated off the main thread
+     */
+    public boolean isSnapshotSafe() {
+        for (LootTable lootTable : this.lootTables)
+            if (!lootTable.isSnapshotSafe())
+                return false;
+        return true;
+    }
+
+}
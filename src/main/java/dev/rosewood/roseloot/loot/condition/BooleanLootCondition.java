@@ -6,10 +6,21 @@ import java.util.function.Predicate;
 public class BooleanLootCondition extends BaseLootCondition {
 
     private final Predicate<LootContext> predicate;
+    private final boolean deterministic;
 
-    public BooleanLootCondition(String tag, Predicate<LootContext> predicate) {
+    /**
+     * @param tag The tag, including both prefix and values
+     * @param predicate The predicate to check
+     * @param deterministic true if the predicate only reads the LootContext, see {@link LootCondition#isDeterministic()}
+     */
+    public BooleanLootCondition(String tag, Predicate<LootContext> predicate, boolean deterministic) {
         super(tag);
         this.predicate = predicate;
+        this.deterministic = deterministic;
+    }
+
+    public BooleanLootCondition(String tag, Predicate<LootContext> predicate) {
+        this(tag, predicate, false);
     }
 
     @Override
@@ -17,6 +28,11 @@ public class BooleanLootCondition extends BaseLootCondition {
         return this.predicate.test(context);
     }
 
+    @Override
+    public boolean isDeterministic() {
+        return this.deterministic;
+    }
+
     @Override
     public boolean parseValues(String[] values) {
         return values.length == 0;
@@ -0,0 +1,214 @@
+package dev.rosewood.roseloot.loot.condition;
+
+import dev.rosewood.roseloot.loot.LootProfiler;
+import dev.rosewood.roseloot.loot.condition.predicate.AndLootCondition;
+import dev.rosewood.roseloot.loot.context.LootContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A list of LootConditions that must all pass, checked in the order most likely to fail early for the least cost.
+ * <br>
+ * Conditions joined with {@code &&} are flattened into the list. The conditions are initially ordered by their
+ * {@link LootCondition.Cost} and are reordered periodically using their observed pass rates. Conditions with side
+ * effects split the list into groups which are always checked in their configured order, so a side effect only
+ * happens if exactly the same conditions before it have passed.
+ */
+public class CompiledLootConditions implements LootCondition {
+
+    private static final int REORDER_INTERVAL = 256;
+
+    private final Group[] groups;
+    private final Cost cost;
+    private final boolean sideEffects;
+    private final boolean snapshotSafe;
+
+    private CompiledLootConditions(Group[] groups, Cost cost, boolean sideEffects, boolean snapshotSafe) {
+        this.groups = groups;
+        this.cost = cost;
+        this.sideEffects = sideEffects;
+        this.snapshotSafe = snapshotSafe;
+    }
+
+    @Override
+    public boolean check(LootContext context) {
+        for (Group group : this.groups)
+            if (!group.check(context))
+                return false;
+        return true;
+    }
+
+    @Override
+    public Cost getCost() {
+        return this.cost;
+    }
+
+    @Override
+    public boolean hasSideEffects() {
+        return this.sideEffects;
+    }
+
+    @Override
+    public boolean isSnapshotSafe() {
+        return this.snapshotSafe;
+    }
+
+    @Override
+    public double getPassChance(LootContext context) {
+        double chance = 1;
+        for (Group group : this.groups) {
+            for (Entry entry : group.order) {
+                double entryChance = entry.condition.getPassChance(context);
+                if (entryChance < 0)
+                    return -1;
+                chance *= entryChance;
+            }
+        }
+        return chance;
+    }
+
+    /**
+     * Compiles a list of LootConditions that must all pass
+     *
+     * @param conditions The LootConditions to compile
+     * @return a LootCondition that passes if all the given conditions pass
+     */
+    public static LootCondition compile(List<LootCondition> conditions) {
+        List<LootCondition> flattened = new ArrayList<>();
+        for (LootCondition condition : conditions)
+            flatten(condition, flattened);
+
+        if (flattened.isEmpty())
+            return ALWAYS_TRUE;
+
+        if (flattened.size() == 1)
+            return flattened.get(0);
+
+        List<Group> groups = new ArrayList<>();
+        List<Entry> reorderable = new ArrayList<>();
+        Cost cost = Cost.CHEAP;
+        boolean sideEffects = false;
+        boolean snapshotSafe = true;
+        for (LootCondition condition : flattened) {
+            cost = Cost.max(cost, condition.getCost());
+            snapshotSafe &= condition.isSnapshotSafe();
+            if (condition.hasSideEffects()) {
+                sideEffects = true;
+                if (!reorderable.isEmpty()) {
+                    groups.add(new Group(reorderable.toArray(Entry[]::new), true));
+                    reorderable.clear();
+                }
+                groups.add(new Group(new Entry[] { new Entry(condition) }, false));
+            } else {
+                reorderable.add(new Entry(condition));
+            }
+        }
+
+        if (!reorderable.isEmpty())
+            groups.add(new Group(reorderable.toArray(Entry[]::new), true));
+
+        return new CompiledLootConditions(groups.toArray(Group[]::new), cost, sideEffects, snapshotSafe);
+    }
+
+    private static void flatten(LootCondition condition, List<LootCondition> flattened) {
+        if (condition instanceof AndLootCondition andCondition) {
+            flatten(andCondition.getLeft(), flattened);
+            flatten(andCondition.getRight(), flattened);
+        } else if (condition instanceof CompiledLootConditions compiled) {
+            for (Group group : compiled.groups)
+                for (Entry entry : group.order)
+                    flattened.add(entry.condition);
+        } else if (condition != ALWAYS_TRUE) {
+            flattened.add(condition);
+        }
+    }
+
+    /**
+     * A run of conditions checked together, reordered if allowed
+     */
+    private static class Group {
+
+        private static final Comparator<Entry> BY_RANK = Comparator.comparingDouble(Entry::getRank);
+
+        private volatile Entry[] order;
+        private final boolean reorderable;
+        private int checks;
+
+        public Group(Entry[] entries, boolean reorderable) {
+            this.reorderable = reorderable;
+            if (reorderable)
+                Arrays.sort(entries, BY_RANK);
+            this.order = entries;
+        }
+
+        public boolean check(LootContext context) {
+            Entry[] order = this.order;
+            if (this.reorderable && ++this.checks >= REORDER_INTERVAL) {
+                this.checks = 0;
+                order = this.reorder(order);
+            }
+
+            for (Entry entry : order)
+                if (!entry.check(context))
+                    return false;
+            return true;
+        }
+
+        private Entry[] reorder(Entry[] order) {
+            Entry[] reordered = order.clone();
+            Arrays.sort(reordered, BY_RANK); // Stable, entries with equal ranks keep their relative order
+            for (Entry entry : reordered)
+                entry.decay();
+            this.order = reordered;
+            return reordered;
+        }
+
+    }
+
+    /**
+     * A single condition along with its observed pass rate
+     */
+    private static class Entry {
+
+        private final LootCondition condition;
+        private final int cost;
+        private int checks;
+        private int passes;
+
+        public Entry(LootCondition condition) {
+            this.condition = condition;
+            this.cost = condition.getCost().getWeight();
+        }
+
+        public boolean check(LootContext context) {
+            boolean passed = LootProfiler.isInstrumented() ? LootProfiler.checkCondition(this.condition, context) : context.checkCondition(this.condition);
+            this.checks++;
+            if (passed)
+                this.passes++;
+            return passed;
+        }
+
+        /**
+         * Conditions are checked in ascending rank, the expected cost spent per failure caused.
+         * Pass rates are smoothed so unchecked conditions start at a 50% pass rate.
+         *
+         * @return the rank of this entry
+         */
+        public double getRank() {
+            double failRate = 1 - (this.passes + 1.0) / (this.checks + 2.0);
+            return this.cost / failRate;
+        }
+
+        /**
+         * Halves the observed counts so the ordering can adapt to changing pass rates
+         */
+        public void decay() {
+            this.checks >>= 1;
+            this.passes >>= 1;
+        }
+
+    }
+
+}
@@ -0,0 +1,10 @@
+package dev.rosewood.roseloot.loot.condition;
+
+/**
+ * Marks a {@link LootCondition} as deterministic, see {@link LootCondition#isDeterministic()}.
+ * Only implement this for conditions that read the LootContext and nothing else, without rolling a chance or having
+ * side effects such as adding placeholders.
+ */
+public interface DeterministicLootCondition extends LootCondition {
+
+}
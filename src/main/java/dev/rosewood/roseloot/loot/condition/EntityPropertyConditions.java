@@ -216,7 +216,7 @@ public class EntityPropertyConditions {
 
     }
 
-    public static class EntityPropertyLootCondition<T extends Entity, V> extends BaseLootCondition {
+    public static class EntityPropertyLootCondition<T extends Entity, V> extends BaseLootCondition implements DeterministicLootCondition {
 
         private final EntityProperties<T, V> properties;
         private final LootContextParam<? extends Entity> entityContext;
@@ -4,8 +4,8 @@ import dev.rosewood.roseloot.loot.context.LootContext;
 
 public interface LootCondition {
 
-    LootCondition ALWAYS_TRUE = context -> true;
-    LootCondition ALWAYS_FALSE = context -> false;
+    LootCondition ALWAYS_TRUE = new ConstantLootCondition(true);
+    LootCondition ALWAYS_FALSE = new ConstantLootCondition(false);
 
     /**
      * Checks if the LootContext meets this tag's condition
@@ -15,4 +15,117 @@ public interface LootCondition {
      */
     boolean check(LootContext context);
 
+    /**
+     * Gets the relative cost of checking this condition, used to decide which conditions to check first.
+     * Conditions that call into other plugins or search the world should be {@link Cost#EXPENSIVE}.
+     *
+     * @return the cost of checking this condition
+     */
+    default Cost getCost() {
+        return Cost.NORMAL;
+    }
+
+    /**
+     * Conditions with side effects are never reordered relative to the conditions around them.
+     *
+     * @return true if checking this condition changes state outside of the LootContext, such as starting a cooldown
+     */
+    default boolean hasSideEffects() {
+        return false;
+    }
+
+    /**
+     * Snapshot safe conditions only read values captured by {@link LootContext#snapshot()}, so they can be checked
+     * off the main thread.
+     *
+     * @return true if this condition can be checked off the main thread
+     */
+    default boolean isSnapshotSafe() {
+        return false;
+    }
+
+    /**
+     * Gets the chance of this condition passing, used to check it for many runs with the same LootContext at once.
+     * Only conditions that pass independently with the same chance every time they are checked can provide one,
+     * conditions that always give the same result for a LootContext have a chance of 0 or 1.
+     *
+     * @param context The LootContext
+     * @return the chance of passing between 0 and 1, or -1 if the condition must be checked for each run
+     */
+    default double getPassChance(LootContext context) {
+        return -1;
+    }
+
+    /**
+     * Deterministic conditions always give the same result for the same LootContext, so their result can be
+     * remembered by {@link LootContext#checkCondition(LootCondition)} and reused for the rest of the generation.
+     * Conditions must opt in to this by implementing {@link DeterministicLootCondition}, conditions that roll a chance,
+     * have side effects, or read state that may change during a generation are never deterministic.
+     *
+     * @return true if this condition only needs to be checked once per LootContext
+     */
+    default boolean isDeterministic() {
+        return this instanceof DeterministicLootCondition;
+    }
+
+    /**
+     * The relative cost of checking a LootCondition
+     */
+    enum Cost {
+        CHEAP(1),
+        NORMAL(5),
+        EXPENSIVE(50);
+
+        private final int weight;
+
+        Cost(int weight) {
+            this.weight = weight;
+        }
+
+        /**
+         * @return the relative weight of this cost
+         */
+        public int getWeight() {
+            return this.weight;
+        }
+
+        /**
+         * Gets the more expensive of two costs
+         *
+         * @param first The first cost
+         * @param second The second cost
+         * @return the more expensive cost
+         */
+        public static Cost max(Cost first, Cost second) {
+            return first.weight >= second.weight ? first : second;
+        }
+    }
+
+    /**
+     * A LootCondition that always has the same result
+     */
+    record ConstantLootCondition(boolean result) implements LootCondition {
+
+        @Override
+        public boolean check(LootContext context) {
+            return this.result;
+        }
+
+        @Override
+        public Cost getCost() {
+            return Cost.CHEAP;
+        }
+
+        @Override
+        public boolean isSnapshotSafe() {
+            return true;
+        }
+
+        @Override
+        public double getPassChance(LootContext context) {
+            return this.result ? 1 : 0;
+        }
+
+    }
+
 }
@@ -7,12 +7,19 @@ import dev.rosewood.roseloot.loot.condition.predicate.OrLootCondition;
 import dev.rosewood.roseloot.manager.LootConditionManager;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 // Uses the Shunting Yard algorithm to tokenize the input string
 public final class LootConditionParser {
 
     private static final LootConditionManager LOOT_CONDITION_MANAGER = RoseLoot.getInstance().getManager(LootConditionManager.class);
-    private static final String TOKEN_REGEX = "(?<=&&)|(?=&&)|(?<=\\|\\|)|(?=\\|\\|)|(?<=(?<=^|\\s|\\()!)|(?=(?<=^|\\s|\\()!)|(?<=\\()|(?=\\()|(?<=\\))|(?=\\))";
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("(?<=&&)|(?=&&)|(?<=\\|\\|)|(?=\\|\\|)|(?<=(?<=^|\\s|\\()!)|(?=(?<=^|\\s|\\()!)|(?<=\\()|(?=\\()|(?<=\\))|(?=\\))");
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+    // The same condition Strings are repeated across many loot tables and every reload, only tokenize each one once
+    private static final Map<String, String[]> TOKEN_CACHE = new ConcurrentHashMap<>();
 
     private LootConditionParser() {
 
@@ -33,10 +40,8 @@ public final class LootConditionParser {
      * @return The parsed {@link LootCondition} or <code>null</code> if the condition String is invalid
      */
     public static LootCondition parse(String condition) {
-        condition = condition.replaceAll("\\s+", "");
-
         try {
-            String[] tokens = condition.split(TOKEN_REGEX);
+            String[] tokens = TOKEN_CACHE.computeIfAbsent(condition, LootConditionParser::tokenize);
 
             Deque<LootCondition> conditions = new ArrayDeque<>();
             Deque<String> operators = new ArrayDeque<>();
@@ -66,6 +71,10 @@ public final class LootConditionParser {
         }
     }
 
+    private static String[] tokenize(String condition) {
+        return TOKEN_PATTERN.split(WHITESPACE_PATTERN.matcher(condition).replaceAll(""));
+    }
+
     private static boolean hasPrecedence(String op1, String op2) {
         if (op2.equals("(") || op2.equals(")"))
             return false;
@@ -8,11 +8,22 @@ import java.util.function.BiPredicate;
 public class StringLootCondition extends BaseLootCondition {
 
     private final BiPredicate<LootContext, List<String>> predicate;
+    private final boolean deterministic;
     private List<String> values;
 
-    public StringLootCondition(String tag, BiPredicate<LootContext, List<String>> predicate) {
+    /**
+     * @param tag The tag, including both prefix and values
+     * @param predicate The predicate to check with the lowercased values
+     * @param deterministic true if the predicate only reads the LootContext, see {@link LootCondition#isDeterministic()}
+     */
+    public StringLootCondition(String tag, BiPredicate<LootContext, List<String>> predicate, boolean deterministic) {
         super(tag);
         this.predicate = predicate;
+        this.deterministic = deterministic;
+    }
+
+    public StringLootCondition(String tag, BiPredicate<LootContext, List<String>> predicate) {
+        this(tag, predicate, false);
     }
 
     @Override
@@ -20,6 +31,11 @@ public class StringLootCondition extends BaseLootCondition {
         return this.predicate.test(context, this.values);
     }
 
+    @Override
+    public boolean isDeterministic() {
+        return this.deterministic;
+    }
+
     @Override
     public boolean parseValues(String[] values) {
         this.values = Arrays.stream(values).map(String::toLowerCase).toList();
@@ -13,7 +13,38 @@ public class InvertedLootCondition implements LootCondition {
 
     @Override
     public boolean check(LootContext context) {
-        return !this.condition.check(context);
+        return !context.checkCondition(this.condition);
+    }
+
+    @Override
+    public Cost getCost() {
+        return this.condition.getCost();
+    }
+
+    @Override
+    public boolean hasSideEffects() {
+        return this.condition.hasSideEffects();
+    }
+
+    @Override
+    public boolean isSnapshotSafe() {
+        return this.condition.isSnapshotSafe();
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return this.condition.isDeterministic();
+    }
+
+    @Override
+    public double getPassChance(LootContext context) {
+        double chance = this.condition.getPassChance(context);
+        return chance < 0 ? -1 : 1 - chance;
+    }
+
+    @Override
+    public String toString() {
+        return "!" + this.condition;
     }
 
 }
@@ -14,7 +14,39 @@ public class OrLootCondition implements LootCondition {
 
     @Override
     public boolean check(LootContext context) {
-        return this.left.check(context) || this.right.check(context);
+        return context.checkCondition(this.left) || context.checkCondition(this.right);
+    }
+
+    @Override
+    public Cost getCost() {
+        return Cost.max(this.left.getCost(), this.right.getCost());
+    }
+
+    @Override
+    public boolean hasSideEffects() {
+        return this.left.hasSideEffects() || this.right.hasSideEffects();
+    }
+
+    @Override
+    public boolean isSnapshotSafe() {
+        return this.left.isSnapshotSafe() && this.right.isSnapshotSafe();
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return this.left.isDeterministic() && this.right.isDeterministic();
+    }
+
+    @Override
+    public double getPassChance(LootContext context) {
+        double left = this.left.getPassChance(context);
+        double right = this.right.getPassChance(context);
+        return left < 0 || right < 0 ? -1 : 1 - (1 - left) * (1 - right);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + this.left + " || " + this.right + ")";
     }
 
 }
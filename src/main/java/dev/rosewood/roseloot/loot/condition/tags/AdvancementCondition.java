@@ -1,13 +1,14 @@
 package dev.rosewood.roseloot.loot.condition.tags;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import java.util.ArrayList;
 import java.util.List;
 import org.bukkit.NamespacedKey;
 
-public class AdvancementCondition extends BaseLootCondition {
+public class AdvancementCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private List<NamespacedKey> advancementKeys;
 
@@ -22,6 +23,11 @@ public class AdvancementCondition extends BaseLootCondition {
                 .isPresent();
     }
 
+    @Override
+    public Cost getCost() {
+        return Cost.CHEAP;
+    }
+
     @Override
     public boolean parseValues(String[] values) {
         this.advancementKeys = new ArrayList<>();
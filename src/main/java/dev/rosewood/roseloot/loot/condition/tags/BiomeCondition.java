@@ -1,6 +1,7 @@
 package dev.rosewood.roseloot.loot.condition.tags;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import java.util.ArrayList;
@@ -9,7 +10,7 @@ import org.bukkit.Location;
 import org.bukkit.block.Biome;
 import org.bukkit.block.Block;
 
-public class BiomeCondition extends BaseLootCondition {
+public class BiomeCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private List<Biome> biomes;
 
@@ -40,4 +41,11 @@ public class BiomeCondition extends BaseLootCondition {
         return !this.biomes.isEmpty();
     }
 
+    /**
+     * @return the biomes this condition matches
+     */
+    public List<Biome> getBiomes() {
+        return this.biomes;
+    }
+
 }
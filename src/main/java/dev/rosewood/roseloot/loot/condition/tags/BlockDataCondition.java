@@ -1,6 +1,7 @@
 package dev.rosewood.roseloot.loot.condition.tags;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.util.BlockInfo;
 import java.util.Arrays;
@@ -8,7 +9,7 @@ import java.util.List;
 import java.util.Optional;
 import org.bukkit.block.data.BlockData;
 
-public class BlockDataCondition extends BaseLootCondition {
+public class BlockDataCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private List<String> blockData;
 
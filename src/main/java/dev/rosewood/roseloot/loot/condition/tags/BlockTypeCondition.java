@@ -1,6 +1,7 @@
 package dev.rosewood.roseloot.loot.condition.tags;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.util.BlockInfo;
 import dev.rosewood.roseloot.util.LootUtils;
@@ -9,7 +10,7 @@ import java.util.List;
 import java.util.Set;
 import org.bukkit.Material;
 
-public class BlockTypeCondition extends BaseLootCondition {
+public class BlockTypeCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private List<Material> blockTypes;
 
@@ -25,6 +26,21 @@ public class BlockTypeCondition extends BaseLootCondition {
                 .isPresent();
     }
 
+    @Override
+    public Cost getCost() {
+        return Cost.CHEAP;
+    }
+
+    @Override
+    public boolean isSnapshotSafe() {
+        return true;
+    }
+
+    @Override
+    public double getPassChance(LootContext context) {
+        return this.check(context) ? 1 : 0;
+    }
+
     @Override
     public boolean parseValues(String[] values) {
         this.blockTypes = new ArrayList<>();
@@ -48,4 +64,11 @@ public class BlockTypeCondition extends BaseLootCondition {
         return !this.blockTypes.isEmpty();
     }
 
+    /**
+     * @return the block types this condition matches
+     */
+    public List<Material> getBlockTypes() {
+        return this.blockTypes;
+    }
+
 }
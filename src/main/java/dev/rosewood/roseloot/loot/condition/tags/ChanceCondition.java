@@ -17,6 +17,21 @@ public class ChanceCondition extends BaseLootCondition {
         return LootUtils.checkChance(this.chance);
     }
 
+    @Override
+    public Cost getCost() {
+        return Cost.CHEAP;
+    }
+
+    @Override
+    public boolean isSnapshotSafe() {
+        return true;
+    }
+
+    @Override
+    public double getPassChance(LootContext context) {
+        return this.chance;
+    }
+
     @Override
     public boolean parseValues(String[] values) {
         if (values.length == 0)
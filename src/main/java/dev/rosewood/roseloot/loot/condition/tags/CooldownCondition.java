@@ -35,6 +35,11 @@ public class CooldownCondition extends BaseLootCondition {
         return RoseLoot.getInstance().getManager(CooldownManager.class).checkCooldown(this.cooldownId, target, this.cooldownLength);
     }
 
+    @Override
+    public boolean hasSideEffects() {
+        return true;
+    }
+
     @Override
     public boolean parseValues(String[] values) {
         if (values.length != 3)
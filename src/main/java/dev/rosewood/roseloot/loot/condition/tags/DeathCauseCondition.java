@@ -1,6 +1,7 @@
 package dev.rosewood.roseloot.loot.condition.tags;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import java.util.ArrayList;
@@ -9,7 +10,7 @@ import org.bukkit.entity.LivingEntity;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
 
-public class DeathCauseCondition extends BaseLootCondition {
+public class DeathCauseCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private List<DamageCause> damageCauses;
 
@@ -26,6 +27,11 @@ public class DeathCauseCondition extends BaseLootCondition {
                 .isPresent();
     }
 
+    @Override
+    public Cost getCost() {
+        return Cost.CHEAP;
+    }
+
     @Override
     public boolean parseValues(String[] values) {
         this.damageCauses = new ArrayList<>();
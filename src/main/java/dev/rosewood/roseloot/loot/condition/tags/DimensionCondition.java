@@ -1,6 +1,7 @@
 package dev.rosewood.roseloot.loot.condition.tags;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import java.util.ArrayList;
@@ -8,7 +9,7 @@ import java.util.List;
 import org.bukkit.Location;
 import org.bukkit.World;
 
-public class DimensionCondition extends BaseLootCondition {
+public class DimensionCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private List<World.Environment> dimensions;
 
@@ -25,6 +26,21 @@ public class DimensionCondition extends BaseLootCondition {
                 .isPresent();
     }
 
+    @Override
+    public Cost getCost() {
+        return Cost.CHEAP;
+    }
+
+    @Override
+    public boolean isSnapshotSafe() {
+        return true;
+    }
+
+    @Override
+    public double getPassChance(LootContext context) {
+        return this.check(context) ? 1 : 0;
+    }
+
     @Override
     public boolean parseValues(String[] values) {
         this.dimensions = new ArrayList<>();
@@ -38,4 +54,11 @@ public class DimensionCondition extends BaseLootCondition {
         return !this.dimensions.isEmpty();
     }
 
+    /**
+     * @return the dimensions this condition matches
+     */
+    public List<World.Environment> getDimensions() {
+        return this.dimensions;
+    }
+
 }
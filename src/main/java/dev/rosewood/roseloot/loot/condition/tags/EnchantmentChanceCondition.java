@@ -29,6 +29,21 @@ public class EnchantmentChanceCondition extends BaseLootCondition {
         return LootUtils.checkChance(this.chance + this.chancePerLevel * Math.min(context.getEnchantmentLevel(this.enchantment), this.maxCountedLevels));
     }
 
+    @Override
+    public Cost getCost() {
+        return Cost.CHEAP;
+    }
+
+    @Override
+    public boolean isSnapshotSafe() {
+        return true;
+    }
+
+    @Override
+    public double getPassChance(LootContext context) {
+        return this.chance + this.chancePerLevel * Math.min(context.getEnchantmentLevel(this.enchantment), this.maxCountedLevels);
+    }
+
     @Override
     public boolean parseValues(String[] values) {
         if (values.length != 3 && values.length != 4)
@@ -32,6 +32,21 @@ public class EnchantmentChanceTableCondition extends BaseLootCondition {
         return LootUtils.checkChance(chance);
     }
 
+    @Override
+    public Cost getCost() {
+        return Cost.CHEAP;
+    }
+
+    @Override
+    public boolean isSnapshotSafe() {
+        return true;
+    }
+
+    @Override
+    public double getPassChance(LootContext context) {
+        return this.chances.get(Math.min(context.getEnchantmentLevel(this.enchantment), this.chances.size() - 1));
+    }
+
     @Override
     public boolean parseValues(String[] values) {
         if (values.length < 2)
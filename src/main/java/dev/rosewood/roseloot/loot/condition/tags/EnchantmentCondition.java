@@ -1,6 +1,7 @@
 package dev.rosewood.roseloot.loot.condition.tags;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.util.nms.EnchantingUtils;
 import org.bukkit.enchantments.Enchantment;
@@ -10,7 +11,7 @@ import org.bukkit.enchantments.Enchantment;
  * value 1: The enchantment
  * value 2: The minimum level of the enchantment
  */
-public class EnchantmentCondition extends BaseLootCondition {
+public class EnchantmentCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private Enchantment enchantment;
     private int level;
@@ -24,6 +25,21 @@ public class EnchantmentCondition extends BaseLootCondition {
         return context.getEnchantmentLevel(this.enchantment) >= this.level;
     }
 
+    @Override
+    public Cost getCost() {
+        return Cost.CHEAP;
+    }
+
+    @Override
+    public boolean isSnapshotSafe() {
+        return true;
+    }
+
+    @Override
+    public double getPassChance(LootContext context) {
+        return this.check(context) ? 1 : 0;
+    }
+
     @Override
     public boolean parseValues(String[] values) {
         if (values.length == 0)
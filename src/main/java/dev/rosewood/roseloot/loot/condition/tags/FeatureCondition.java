@@ -1,6 +1,7 @@
 package dev.rosewood.roseloot.loot.condition.tags;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import dev.rosewood.roseloot.util.nms.StructureUtils;
@@ -10,7 +11,7 @@ import java.util.Optional;
 import org.bukkit.Location;
 import org.bukkit.StructureType;
 
-public class FeatureCondition extends BaseLootCondition {
+public class FeatureCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private List<StructureType> features;
 
@@ -31,6 +32,11 @@ public class FeatureCondition extends BaseLootCondition {
         return false;
     }
 
+    @Override
+    public Cost getCost() {
+        return Cost.EXPENSIVE;
+    }
+
     @Override
     public boolean parseValues(String[] values) {
         this.features = new ArrayList<>();
@@ -1,11 +1,12 @@
 package dev.rosewood.roseloot.loot.condition.tags;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.util.BlockInfo;
 import org.bukkit.block.data.Ageable;
 
-public class GrownCropCondition extends BaseLootCondition {
+public class GrownCropCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     public GrownCropCondition(String tag) {
         super(tag);
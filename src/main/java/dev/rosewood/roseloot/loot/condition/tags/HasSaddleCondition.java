@@ -1,6 +1,7 @@
 package dev.rosewood.roseloot.loot.condition.tags;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import java.util.Optional;
@@ -8,7 +9,7 @@ import org.bukkit.entity.AbstractHorse;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Steerable;
 
-public class HasSaddleCondition extends BaseLootCondition {
+public class HasSaddleCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     public HasSaddleCondition(String tag) {
         super(tag);
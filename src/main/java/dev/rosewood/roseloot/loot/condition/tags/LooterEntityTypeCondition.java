@@ -1,6 +1,7 @@
 package dev.rosewood.roseloot.loot.condition.tags;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import dev.rosewood.roseloot.util.LootUtils;
@@ -10,7 +11,7 @@ import java.util.Set;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 
-public class LooterEntityTypeCondition extends BaseLootCondition {
+public class LooterEntityTypeCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private List<EntityType> entityTypes;
 
@@ -26,6 +27,21 @@ public class LooterEntityTypeCondition extends BaseLootCondition {
                 .isPresent();
     }
 
+    @Override
+    public Cost getCost() {
+        return Cost.CHEAP;
+    }
+
+    @Override
+    public boolean isSnapshotSafe() {
+        return true;
+    }
+
+    @Override
+    public double getPassChance(LootContext context) {
+        return this.check(context) ? 1 : 0;
+    }
+
     @Override
     public boolean parseValues(String[] values) {
         this.entityTypes = new ArrayList<>();
@@ -18,6 +18,21 @@ public class LuckChanceCondition extends BaseLootCondition {
         return LootUtils.checkChance(this.chance + this.luckOffset * context.getLuckLevel());
     }
 
+    @Override
+    public Cost getCost() {
+        return Cost.CHEAP;
+    }
+
+    @Override
+    public boolean isSnapshotSafe() {
+        return true;
+    }
+
+    @Override
+    public double getPassChance(LootContext context) {
+        return this.chance + this.luckOffset * context.getLuckLevel();
+    }
+
     @Override
     public boolean parseValues(String[] values) {
         if (values.length != 2)
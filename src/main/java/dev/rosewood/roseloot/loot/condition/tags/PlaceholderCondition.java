@@ -3,10 +3,11 @@ package dev.rosewood.roseloot.loot.condition.tags;
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
 import dev.rosewood.roseloot.loot.condition.Operator;
 import dev.rosewood.roseloot.loot.context.LootContext;
+import dev.rosewood.roseloot.provider.StringTemplate;
 
 public class PlaceholderCondition extends BaseLootCondition {
 
-    private String left, right;
+    private StringTemplate left, right;
     private Operator operator;
 
     public PlaceholderCondition(String tag) {
@@ -15,7 +16,12 @@ public class PlaceholderCondition extends BaseLootCondition {
 
     @Override
     public boolean check(LootContext context) {
-        return this.operator.evaluate(context.applyPlaceholders(this.left), context.applyPlaceholders(this.right));
+        return this.operator.evaluate(this.left.apply(context), this.right.apply(context));
+    }
+
+    @Override
+    public Cost getCost() {
+        return Cost.EXPENSIVE;
     }
 
     @Override
@@ -37,9 +43,10 @@ public class PlaceholderCondition extends BaseLootCondition {
 
                 buffer.append(c);
                 if (!inPlaceholder && buffer.toString().endsWith(symbol)) {
-                    this.left = buffer.substring(0, buffer.length() - symbol.length()).trim();
+                    String left = buffer.substring(0, buffer.length() - symbol.length()).trim();
+                    this.left = StringTemplate.parse(left);
                     this.operator = operator;
-                    this.right = expression.substring(this.left.length() + symbol.length()).trim();
+                    this.right = StringTemplate.parse(expression.substring(left.length() + symbol.length()).trim());
                     break outer;
                 }
             }
@@ -1,6 +1,7 @@
 package dev.rosewood.roseloot.loot.condition.tags;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import java.util.HashMap;
 import java.util.List;
@@ -13,7 +14,7 @@ import org.bukkit.inventory.ItemStack;
  * value 1: The tool type (shovel, pickaxe, axe, hoe, shears)
  * value 2 (optional): The minimum tool level (wood, stone/gold, iron, diamond, netherite)
  */
-public class RequiredToolCondition extends BaseLootCondition {
+public class RequiredToolCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private final static List<String> TOOL_TYPES = List.of("shovel", "pickaxe", "axe", "hoe", "sword", "shears");
     private final static Map<String, Integer> TOOL_QUALITY = new HashMap<>() {{
@@ -1,6 +1,7 @@
 package dev.rosewood.roseloot.loot.condition.tags;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.util.LootUtils;
 import java.util.ArrayList;
@@ -9,7 +10,7 @@ import java.util.Set;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 
-public class RequiredToolTypeCondition extends BaseLootCondition {
+public class RequiredToolTypeCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private List<Material> toolTypes;
 
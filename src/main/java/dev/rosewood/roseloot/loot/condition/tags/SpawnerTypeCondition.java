@@ -1,6 +1,7 @@
 package dev.rosewood.roseloot.loot.condition.tags;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.util.BlockInfo;
 import java.util.ArrayList;
@@ -8,7 +9,7 @@ import java.util.List;
 import org.bukkit.block.CreatureSpawner;
 import org.bukkit.entity.EntityType;
 
-public class SpawnerTypeCondition extends BaseLootCondition {
+public class SpawnerTypeCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private List<EntityType> entityTypes;
 
@@ -1,12 +1,13 @@
 package dev.rosewood.roseloot.loot.condition.tags;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import org.bukkit.Location;
 import org.bukkit.block.Block;
 
-public class TemperatureCondition extends BaseLootCondition {
+public class TemperatureCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private double temperature;
 
@@ -1,13 +1,14 @@
 package dev.rosewood.roseloot.loot.condition.tags;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import java.util.ArrayList;
 import java.util.List;
 import org.bukkit.NamespacedKey;
 
-public class VanillaLootTableCondition extends BaseLootCondition {
+public class VanillaLootTableCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private List<NamespacedKey> vanillaLootTableKeys;
 
@@ -22,6 +23,21 @@ public class VanillaLootTableCondition extends BaseLootCondition {
                 .isPresent();
     }
 
+    @Override
+    public Cost getCost() {
+        return Cost.CHEAP;
+    }
+
+    @Override
+    public boolean isSnapshotSafe() {
+        return true;
+    }
+
+    @Override
+    public double getPassChance(LootContext context) {
+        return this.check(context) ? 1 : 0;
+    }
+
     @Override
     public boolean parseValues(String[] values) {
         this.vanillaLootTableKeys = new ArrayList<>();
@@ -35,4 +51,11 @@ public class VanillaLootTableCondition extends BaseLootCondition {
         return !this.vanillaLootTableKeys.isEmpty();
     }
 
+    /**
+     * @return the vanilla loot table keys this condition matches
+     */
+    public List<NamespacedKey> getVanillaLootTableKeys() {
+        return this.vanillaLootTableKeys;
+    }
+
 }
@@ -1,6 +1,7 @@
 package dev.rosewood.roseloot.loot.condition.tags;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import java.util.ArrayList;
@@ -8,7 +9,7 @@ import java.util.List;
 import org.bukkit.Location;
 import org.bukkit.World;
 
-public class WeatherCondition extends BaseLootCondition {
+public class WeatherCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private List<WeatherType> weatherTypes;
 
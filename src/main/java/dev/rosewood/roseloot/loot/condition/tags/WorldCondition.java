@@ -1,13 +1,14 @@
 package dev.rosewood.roseloot.loot.condition.tags;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import java.util.ArrayList;
 import java.util.List;
 import org.bukkit.Location;
 
-public class WorldCondition extends BaseLootCondition {
+public class WorldCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private List<String> worlds;
 
@@ -24,10 +25,32 @@ public class WorldCondition extends BaseLootCondition {
                 .isPresent();
     }
 
+    @Override
+    public Cost getCost() {
+        return Cost.CHEAP;
+    }
+
+    @Override
+    public boolean isSnapshotSafe() {
+        return true;
+    }
+
+    @Override
+    public double getPassChance(LootContext context) {
+        return this.check(context) ? 1 : 0;
+    }
+
     @Override
     public boolean parseValues(String[] values) {
         this.worlds = new ArrayList<>(List.of(values));
         return !this.worlds.isEmpty();
     }
 
+    /**
+     * @return the world names this condition matches, case-insensitive
+     */
+    public List<String> getWorlds() {
+        return this.worlds;
+    }
+
 }
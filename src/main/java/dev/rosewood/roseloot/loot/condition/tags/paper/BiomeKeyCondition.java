@@ -1,6 +1,7 @@
 package dev.rosewood.roseloot.loot.condition.tags.paper;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import java.util.ArrayList;
@@ -9,7 +10,7 @@ import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.NamespacedKey;
 
-public class BiomeKeyCondition extends BaseLootCondition {
+public class BiomeKeyCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private List<NamespacedKey> biomeKeys;
 
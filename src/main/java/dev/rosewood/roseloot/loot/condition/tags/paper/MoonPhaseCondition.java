@@ -1,6 +1,7 @@
 package dev.rosewood.roseloot.loot.condition.tags.paper;
 
 import dev.rosewood.roseloot.loot.condition.BaseLootCondition;
+import dev.rosewood.roseloot.loot.condition.DeterministicLootCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
 import io.papermc.paper.world.MoonPhase;
@@ -8,7 +9,7 @@ import java.util.ArrayList;
 import java.util.List;
 import org.bukkit.Location;
 
-public class MoonPhaseCondition extends BaseLootCondition {
+public class MoonPhaseCondition extends BaseLootCondition implements DeterministicLootCondition {
 
     private List<MoonPhase> moonPhases;
 
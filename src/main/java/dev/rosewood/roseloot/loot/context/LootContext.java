@@ -4,13 +4,15 @@ import dev.rosewood.rosegarden.hook.PlaceholderAPIHook;
 import dev.rosewood.rosegarden.utils.HexUtils;
 import dev.rosewood.roseloot.loot.LootPlaceholders;
 import dev.rosewood.roseloot.loot.LootTable;
+import dev.rosewood.roseloot.loot.condition.LootCondition;
 import dev.rosewood.roseloot.util.BlockInfo;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
@@ -18,14 +20,27 @@ import org.jetbrains.annotations.NotNull;
 
 public class LootContext {
 
-    private final Map<LootContextParam<?>, Object> paramStorage;
+    private Object[] paramValues;
+    private final List<LootContextParam<?>> params;
+    private Set<LootContextParam<?>> cachedParams;
     private final double luck;
     private Map<Enchantment, Integer> cachedEnchantmentLevels;
     private final LootPlaceholders placeholders;
     private LootTable currentLootTable;
 
+    // Values derived from the params, resolved on first use
+    private Optional<Player> cachedLootingPlayer;
+    private Optional<ItemStack> cachedItemUsed;
+    private Optional<BlockInfo> cachedLootedBlockInfo;
+    private boolean snapshotted;
+
+    // Deterministic LootCondition -> result, cleared when the placeholders the conditions may read change
+    private Map<LootCondition, Boolean> conditionResults;
+    private int conditionResultsModificationCount;
+
     private LootContext(double luck, Map<Enchantment, Integer> cachedEnchantmentLevels) {
-        this.paramStorage = new LinkedHashMap<>();
+        this.paramValues = new Object[LootContextParam.getOrdinalCount()];
+        this.params = new ArrayList<>();
         this.luck = luck;
         this.cachedEnchantmentLevels = cachedEnchantmentLevels;
         this.placeholders = new LootPlaceholders();
@@ -40,11 +55,33 @@ public class LootContext {
      * @throws IllegalArgumentException if a value with the given LootContextParam already exists
      */
     private <T> void put(LootContextParam<T> param, T value) {
-        if (this.paramStorage.put(param, value) != null) {
+        int ordinal = param.getOrdinal();
+        if (ordinal >= this.paramValues.length)
+            this.paramValues = Arrays.copyOf(this.paramValues, Math.max(ordinal + 1, LootContextParam.getOrdinalCount()));
+
+        if (this.paramValues[ordinal] != null)
             throw new IllegalArgumentException("LootContext already contains a value for <param:" + param.getName() + ">");
-        } else {
-            param.applyPlaceholders(value, this.placeholders);
-        }
+
+        this.paramValues[ordinal] = value;
+        if (!this.params.contains(param))
+            this.params.add(param);
+
+        this.cachedParams = null;
+        this.cachedLootingPlayer = null;
+        this.cachedItemUsed = null;
+        this.cachedLootedBlockInfo = null;
+        this.conditionResults = null;
+    }
+
+    /**
+     * Gets the raw value stored for a LootContextParam
+     *
+     * @param param the LootContextParam to get the value for
+     * @return the stored value, or null if there is none
+     */
+    private Object getValue(LootContextParam<?> param) {
+        int ordinal = param.getOrdinal();
+        return ordinal < this.paramValues.length ? this.paramValues[ordinal] : null;
     }
 
     /**
@@ -57,7 +94,7 @@ public class LootContext {
     @SuppressWarnings("unchecked")
     @NotNull
     public <T> Optional<T> get(LootContextParam<T> param) {
-        return Optional.ofNullable((T) this.paramStorage.get(param));
+        return Optional.ofNullable((T) this.getValue(param));
     }
 
     /**
@@ -71,17 +108,16 @@ public class LootContext {
      */
     @SuppressWarnings("unchecked")
     public <T, R> Optional<R> getAs(LootContextParam<T> param, Class<R> clazz) {
-        return Optional.ofNullable((T) this.paramStorage.get(param)).map(x -> clazz.isAssignableFrom(x.getClass()) ? (R) x : null);
+        return Optional.ofNullable((T) this.getValue(param)).map(x -> clazz.isAssignableFrom(x.getClass()) ? (R) x : null);
     }
 
     /**
-     * @return a copy of all the non-null LootContextParams in this context
+     * @return an unmodifiable Set of all the LootContextParams in this context
      */
     public Set<LootContextParam<?>> getParams() {
-        return this.paramStorage.entrySet().stream()
-                .filter(Objects::nonNull)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toSet());
+        if (this.cachedParams == null)
+            this.cachedParams = Set.copyOf(this.params);
+        return this.cachedParams;
     }
 
     /**
@@ -89,12 +125,17 @@ public class LootContext {
      */
     @NotNull
     public Optional<Player> getLootingPlayer() {
-        for (Map.Entry<LootContextParam<?>, Object> entry : this.paramStorage.entrySet()) {
-            Optional<Player> player = entry.getKey().getPlayer(entry.getValue());
-            if (player.isPresent())
-                return player;
+        if (this.cachedLootingPlayer == null) {
+            this.cachedLootingPlayer = Optional.empty();
+            for (LootContextParam<?> param : this.params) {
+                Optional<Player> player = param.getPlayer(this.getValue(param));
+                if (player.isPresent()) {
+                    this.cachedLootingPlayer = player;
+                    break;
+                }
+            }
         }
-        return Optional.empty();
+        return this.cachedLootingPlayer;
     }
 
     /**
@@ -102,12 +143,17 @@ public class LootContext {
      */
     @NotNull
     public Optional<ItemStack> getItemUsed() {
-        for (Map.Entry<LootContextParam<?>, Object> entry : this.paramStorage.entrySet()) {
-            Optional<ItemStack> itemStack = entry.getKey().getItemUsed(entry.getValue());
-            if (itemStack.isPresent())
-                return itemStack;
+        if (this.cachedItemUsed == null) {
+            this.cachedItemUsed = Optional.empty();
+            for (LootContextParam<?> param : this.params) {
+                Optional<ItemStack> itemStack = param.getItemUsed(this.getValue(param));
+                if (itemStack.isPresent()) {
+                    this.cachedItemUsed = itemStack;
+                    break;
+                }
+            }
         }
-        return Optional.empty();
+        return this.cachedItemUsed;
     }
 
     /**
@@ -115,12 +161,17 @@ public class LootContext {
      */
     @NotNull
     public Optional<BlockInfo> getLootedBlockInfo() {
-        for (Map.Entry<LootContextParam<?>, Object> entry : this.paramStorage.entrySet()) {
-            Optional<BlockInfo> blockInfo = entry.getKey().getBlockInfo(entry.getValue());
-            if (blockInfo.isPresent())
-                return blockInfo;
+        if (this.cachedLootedBlockInfo == null) {
+            this.cachedLootedBlockInfo = Optional.empty();
+            for (LootContextParam<?> param : this.params) {
+                Optional<BlockInfo> blockInfo = param.getBlockInfo(this.getValue(param));
+                if (blockInfo.isPresent()) {
+                    this.cachedLootedBlockInfo = blockInfo;
+                    break;
+                }
+            }
         }
-        return Optional.empty();
+        return this.cachedLootedBlockInfo;
     }
 
     /**
@@ -140,6 +191,58 @@ public class LootContext {
         return 0;
     }
 
+    /**
+     * Resolves all values derived from the params and captures the item used and looted block as they are right now,
+     * so snapshot safe conditions and LootItems can read this LootContext off the main thread.
+     * Must be called on the main thread, after which this LootContext should no longer be changed.
+     * Calling this again does nothing.
+     */
+    public void snapshot() {
+        if (this.snapshotted)
+            return;
+
+        this.snapshotted = true;
+        this.getParams();
+        this.getLootingPlayer();
+
+        this.cachedItemUsed = this.getItemUsed().map(ItemStack::clone);
+        if (this.cachedEnchantmentLevels == null)
+            this.cachedItemUsed.ifPresent(x -> this.cachedEnchantmentLevels = x.getEnchantments());
+
+        this.cachedLootedBlockInfo = this.getLootedBlockInfo().map(x -> BlockInfo.of(x.getState()));
+        this.placeholders.applyDeferred();
+    }
+
+    /**
+     * Checks a LootCondition against this LootContext.
+     * Results of deterministic conditions are remembered and reused until the placeholders of this LootContext change,
+     * all other conditions are checked every time.
+     *
+     * @param condition The LootCondition to check
+     * @return true if the condition is met, otherwise false
+     */
+    public boolean checkCondition(LootCondition condition) {
+        if (!condition.isDeterministic())
+            return condition.check(this);
+
+        int modificationCount = this.placeholders.getModificationCount();
+        if (this.conditionResults == null) {
+            this.conditionResults = new IdentityHashMap<>();
+        } else if (this.conditionResultsModificationCount != modificationCount) {
+            this.conditionResults.clear();
+        }
+        this.conditionResultsModificationCount = modificationCount;
+
+        Boolean result = this.conditionResults.get(condition);
+        if (result == null) {
+            result = condition.check(this);
+            // Checking the condition may have added placeholders, in which case the results are stale again
+            if (this.placeholders.getModificationCount() == modificationCount)
+                this.conditionResults.put(condition, result);
+        }
+        return result;
+    }
+
     /**
      * @return the luck level for this context, used for bonus rolls
      */
@@ -174,7 +277,10 @@ public class LootContext {
      */
     @NotNull
     public String applyPlaceholders(String text) {
-        return PlaceholderAPIHook.applyPlaceholders(this.getLootingPlayer().orElse(null), this.placeholders.apply(text));
+        String applied = this.placeholders.apply(text);
+        if (applied.indexOf('%') == -1)
+            return applied; // Nothing left for PlaceholderAPI to replace
+        return PlaceholderAPIHook.applyPlaceholders(this.getLootingPlayer().orElse(null), applied);
     }
 
     /**
@@ -195,11 +301,14 @@ public class LootContext {
     }
 
     /**
-     * Adds placeholders relative to this context
+     * Adds the placeholders of the params and placeholders relative to this context, deferred until a placeholder is read
      */
     private void addContextPlaceholders() {
-        this.getLootingPlayer().ifPresent(x -> this.placeholders.add("player", x.getName()));
-        this.getItemUsed().ifPresent(x -> this.placeholders.add("item_type", x.getType().name().toLowerCase()));
+        for (LootContextParam<?> param : this.params)
+            param.applyPlaceholders(this.getValue(param), this.placeholders);
+
+        this.placeholders.addLazy("player", () -> this.getLootingPlayer().map(x -> x.getName()).orElse(null));
+        this.placeholders.addLazy("item_type", () -> this.getItemUsed().map(x -> x.getType().name().toLowerCase()).orElse(null));
         this.placeholders.add("luck_level", this.getLuckLevel());
     }
 
@@ -256,7 +365,7 @@ public class LootContext {
          * @return The built LootContext
          */
         public LootContext build() {
-            this.context.addContextPlaceholders();
+            this.context.placeholders.setDeferred(this.context::addContextPlaceholders);
             return this.context;
         }
 
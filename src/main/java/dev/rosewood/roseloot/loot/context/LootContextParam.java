@@ -2,8 +2,10 @@ package dev.rosewood.roseloot.loot.context;
 
 import dev.rosewood.roseloot.loot.LootPlaceholders;
 import dev.rosewood.roseloot.util.BlockInfo;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import org.bukkit.entity.Player;
@@ -11,8 +13,12 @@ import org.bukkit.inventory.ItemStack;
 
 public class LootContextParam<T> {
 
+    private static final Map<String, Integer> ORDINALS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_ORDINAL = new AtomicInteger();
+
     private final String name;
     private final Class<T> type;
+    private final int ordinal;
     protected BiConsumer<T, LootPlaceholders> placeholderApplicator;
     protected Function<T, Player> playerProvider;
     protected Function<T, ItemStack> itemUsedProvider;
@@ -21,6 +27,7 @@ public class LootContextParam<T> {
     public LootContextParam(String name, Class<T> type) {
         this.name = name;
         this.type = type;
+        this.ordinal = ORDINALS.computeIfAbsent(name, x -> NEXT_ORDINAL.getAndIncrement());
     }
 
     /**
@@ -37,6 +44,22 @@ public class LootContextParam<T> {
         return this.type;
     }
 
+    /**
+     * Parameters with the same name share the same ordinal
+     *
+     * @return the dense index of this parameter, used to store its value in a LootContext
+     */
+    public int getOrdinal() {
+        return this.ordinal;
+    }
+
+    /**
+     * @return the number of distinct parameter ordinals that have been assigned so far
+     */
+    public static int getOrdinalCount() {
+        return NEXT_ORDINAL.get();
+    }
+
     /**
      * Applies any placeholders for this parameter value to the given LootPlaceholders instance
      *
@@ -109,7 +132,7 @@ public class LootContextParam<T> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.name);
+        return this.ordinal;
     }
 
 }
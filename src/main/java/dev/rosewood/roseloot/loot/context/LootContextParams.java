@@ -25,36 +25,36 @@ public final class LootContextParams {
     public static final LootContextParam<Location> ORIGIN = create("origin", Location.class, builder ->
             builder.withPlaceholders((x, y) -> {
                 Optional.ofNullable(x.getWorld()).ifPresent(world -> {
-                    y.add("world", world.getName());
-                    y.add("world_time_ticks", world.getTime());
+                    y.addLazy("world", () -> world.getName());
+                    y.addLazy("world_time_ticks", () -> world.getTime());
                 });
-                y.add("x", LootUtils.getToMaximumDecimals(x.getX(), 2));
-                y.add("y", LootUtils.getToMaximumDecimals(x.getY(), 2));
-                y.add("z", LootUtils.getToMaximumDecimals(x.getZ(), 2));
+                y.addLazy("x", () -> LootUtils.getToMaximumDecimals(x.getX(), 2));
+                y.addLazy("y", () -> LootUtils.getToMaximumDecimals(x.getY(), 2));
+                y.addLazy("z", () -> LootUtils.getToMaximumDecimals(x.getZ(), 2));
             }));
     public static final LootContextParam<Boolean> HAS_EXISTING_ITEMS = create("has_existing_items", Boolean.class);
     public static final LootContextParam<Entity> LOOTER = create("looter", Entity.class, builder ->
             builder.withPlayer(x -> x instanceof Player ? (Player) x : null).withItemUsed(LootUtils::getEntityItemUsed));
     public static final LootContextParam<LivingEntity> LOOTED_ENTITY = create("looted_entity", LivingEntity.class, builder ->
             builder.withPlayer(LivingEntity::getKiller).withPlaceholders((x, y) -> {
-                y.add("entity_type", x.getType().name().toLowerCase());
-                y.add("entity_key", x.getType().getKey().getKey());
-                Optional.ofNullable(x.getCustomName()).ifPresent(name -> y.add("entity_name", name));
+                y.addLazy("entity_type", () -> x.getType().name().toLowerCase());
+                y.addLazy("entity_key", () -> x.getType().getKey().getKey());
+                y.addLazy("entity_name", () -> x.getCustomName());
             }));
     public static final LootContextParam<Block> LOOTED_BLOCK = create("looted_block", Block.class, builder ->
-            builder.withPlaceholders((x, y) -> y.add("block_type", x.getType().name().toLowerCase())).withBlockInfo(BlockInfo::of));
+            builder.withPlaceholders((x, y) -> y.addLazy("block_type", () -> x.getType().name().toLowerCase())).withBlockInfo(BlockInfo::of));
     public static final LootContextParam<BlockState> LOOTED_BLOCK_STATE = create("looted_block_state", BlockState.class, builder ->
-            builder.withPlaceholders((x, y) -> y.add("block_type", x.getType().name().toLowerCase())).withBlockInfo(BlockInfo::of));
+            builder.withPlaceholders((x, y) -> y.addLazy("block_type", () -> x.getType().name().toLowerCase())).withBlockInfo(BlockInfo::of));
     public static final LootContextParam<BlockData> REPLACED_BLOCK_DATA = create("replaced_block_data", BlockData.class, builder ->
-            builder.withPlaceholders((x, y) -> y.add("replaced_block_type", x.getMaterial().name().toLowerCase())));
+            builder.withPlaceholders((x, y) -> y.addLazy("replaced_block_type", () -> x.getMaterial().name().toLowerCase())));
     public static final LootContextParam<FishHook> FISH_HOOK = create("fish_hook", FishHook.class);
     public static final LootContextParam<ItemStack> INPUT_ITEM = create("input_item", ItemStack.class);
     public static final LootContextParam<NamespacedKey> VANILLA_LOOT_TABLE_KEY = create("vanilla_loot_table_key", NamespacedKey.class, builder ->
-            builder.withPlaceholders((x, y) -> y.add("vanilla_loot_table_name", x.toString())));
+            builder.withPlaceholders((x, y) -> y.addLazy("vanilla_loot_table_name", () -> x.toString())));
     public static final LootContextParam<NamespacedKey> ADVANCEMENT_KEY = create("advancement_key", NamespacedKey.class, builder ->
-            builder.withPlaceholders((x, y) -> y.add("advancement_name", x.toString())));
+            builder.withPlaceholders((x, y) -> y.addLazy("advancement_name", () -> x.toString())));
     public static final LootContextParam<ExplosionType> EXPLOSION_TYPE = create("explosion_type", ExplosionType.class, builder ->
-            builder.withPlaceholders((x, y) -> y.add("explosion_type", x.name().toLowerCase())));
+            builder.withPlaceholders((x, y) -> y.addLazy("explosion_type", () -> x.name().toLowerCase())));
 
     /**
      * Creates a new {@link LootContextParam} with the given name and type.
@@ -6,7 +6,6 @@ import dev.rosewood.roseloot.hook.items.CustomItemPlugin;
 import dev.rosewood.roseloot.loot.condition.LootCondition;
 import dev.rosewood.roseloot.loot.condition.LootConditionParser;
 import dev.rosewood.roseloot.loot.context.LootContext;
-import dev.rosewood.roseloot.loot.context.LootContextParams;
 import dev.rosewood.roseloot.loot.item.meta.ItemLootMeta;
 import dev.rosewood.roseloot.provider.NumberProvider;
 import dev.rosewood.roseloot.provider.StringProvider;
@@ -14,11 +13,9 @@ import dev.rosewood.roseloot.util.nms.EnchantingUtils;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.enchantments.Enchantment;
-import org.bukkit.entity.LivingEntity;
 import org.bukkit.inventory.FurnaceRecipe;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.Recipe;
@@ -43,13 +40,35 @@ public class CustomItemLootItem extends ItemLootItem {
         return itemStack;
     }
 
+    @Override
+    protected boolean supportsPrototype() {
+        return this.customItemPlugin.hasStaticItems();
+    }
+
+    @Override
+    public boolean isSnapshotSafe() {
+        return false; // Custom items are created by other plugins
+    }
+
+    @Override
+    protected ItemStack createBaseItem(LootContext context) {
+        return this.resolveItem(context);
+    }
+
+    @Override
     protected ItemStack getCreationItem(LootContext context) {
+        boolean smelting = this.isSmelting(context);
+        if (!smelting) {
+            ItemStack prototypeItem = this.getPrototypeItem(context);
+            if (prototypeItem != null)
+                return prototypeItem;
+        }
+
         ItemStack itemStack = this.resolveItem(context);
         if (itemStack == null)
             return null;
 
-        Optional<LivingEntity> lootedEntity = context.get(LootContextParams.LOOTED_ENTITY);
-        if (this.smeltIfBurning && lootedEntity.isPresent() && lootedEntity.get().getFireTicks() > 0) {
+        if (smelting) {
             Iterator<Recipe> recipesIterator = Bukkit.recipeIterator();
             while (recipesIterator.hasNext()) {
                 Recipe recipe = recipesIterator.next();
@@ -18,6 +18,11 @@ public class EconomyLootItem implements TriggerableLootItem {
         this.amounts = new ArrayList<>(List.of(amounts));
     }
 
+    private EconomyLootItem(EconomyLootItem other) {
+        this.plugin = other.plugin;
+        this.amounts = new ArrayList<>(other.amounts);
+    }
+
     @Override
     public boolean combineWith(LootItem lootItem) {
         if (!(lootItem instanceof EconomyLootItem other) || this.plugin != other.plugin)
@@ -27,6 +32,16 @@ public class EconomyLootItem implements TriggerableLootItem {
         return true;
     }
 
+    @Override
+    public Object getCombineKey() {
+        return this.plugin;
+    }
+
+    @Override
+    public LootItem copy() {
+        return new EconomyLootItem(this);
+    }
+
     @Override
     public void trigger(LootContext context, Location location) {
         double amount = this.amounts.stream().mapToDouble(x -> x.getDouble(context)).sum();
@@ -15,4 +15,19 @@ public non-sealed interface ExperienceGenerativeLootItem extends LootItem {
      */
     int generate(LootContext context);
 
+    /**
+     * Generates the experience of many runs with the same LootContext at once, as if {@link #generate(LootContext)}
+     * was called for each run
+     *
+     * @param context The LootContext
+     * @param times The number of runs
+     * @return The amount of experience to drop
+     */
+    default int generate(LootContext context, int times) {
+        int amount = 0;
+        for (int i = 0; i < times; i++)
+            amount += this.generate(context);
+        return amount;
+    }
+
 }
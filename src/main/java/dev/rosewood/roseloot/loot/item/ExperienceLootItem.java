@@ -23,6 +23,11 @@ public class ExperienceLootItem implements ExperienceGenerativeLootItem {
         this.equipmentBonuses = new ArrayList<>(List.of(equipmentBonus));
     }
 
+    private ExperienceLootItem(ExperienceLootItem other) {
+        this.amounts = new ArrayList<>(other.amounts);
+        this.equipmentBonuses = new ArrayList<>(other.equipmentBonuses);
+    }
+
     @Override
     public int generate(LootContext context) {
         int amount = this.amounts.stream().mapToInt(x -> x.getInteger(context)).sum();
@@ -56,6 +61,16 @@ public class ExperienceLootItem implements ExperienceGenerativeLootItem {
         return true;
     }
 
+    @Override
+    public Object getCombineKey() {
+        return ExperienceLootItem.class;
+    }
+
+    @Override
+    public LootItem copy() {
+        return new ExperienceLootItem(this);
+    }
+
     public static ExperienceLootItem fromSection(ConfigurationSection section) {
         NumberProvider amount = NumberProvider.fromSection(section, "amount", 0);
         NumberProvider equipmentBonus = NumberProvider.fromSection(section, "equipment-bonus", 0);
@@ -20,6 +20,12 @@ public class ExplosionLootItem implements TriggerableLootItem {
         this.breakBlocks = breakBlocks;
     }
 
+    private ExplosionLootItem(ExplosionLootItem other) {
+        this.powers = new ArrayList<>(other.powers);
+        this.fire = other.fire;
+        this.breakBlocks = other.breakBlocks;
+    }
+
     @Override
     public boolean combineWith(LootItem lootItem) {
         if (!(lootItem instanceof ExplosionLootItem other))
@@ -31,6 +37,16 @@ public class ExplosionLootItem implements TriggerableLootItem {
         return true;
     }
 
+    @Override
+    public Object getCombineKey() {
+        return ExplosionLootItem.class;
+    }
+
+    @Override
+    public LootItem copy() {
+        return new ExplosionLootItem(this);
+    }
+
     @Override
     public void trigger(LootContext context, Location location) {
         World world = location.getWorld();
@@ -30,6 +30,12 @@ public class FireworkLootItem implements TriggerableLootItem {
         this.dealDamage = dealDamage;
     }
 
+    private FireworkLootItem(FireworkLootItem other) {
+        this.powers = new ArrayList<>(other.powers);
+        this.effects = new ArrayList<>(other.effects);
+        this.dealDamage = other.dealDamage;
+    }
+
     @Override
     public boolean combineWith(LootItem lootItem) {
         if (!(lootItem instanceof FireworkLootItem other))
@@ -41,6 +47,16 @@ public class FireworkLootItem implements TriggerableLootItem {
         return true;
     }
 
+    @Override
+    public Object getCombineKey() {
+        return FireworkLootItem.class;
+    }
+
+    @Override
+    public LootItem copy() {
+        return new FireworkLootItem(this);
+    }
+
     @Override
     public void trigger(LootContext context, Location location) {
         World world = location.getWorld();
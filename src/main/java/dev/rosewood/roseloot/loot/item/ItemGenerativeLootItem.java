@@ -1,6 +1,9 @@
 package dev.rosewood.roseloot.loot.item;
 
 import dev.rosewood.roseloot.loot.LootItemGenerator;
+import dev.rosewood.roseloot.loot.context.LootContext;
+import java.util.ArrayList;
+import java.util.List;
 import org.bukkit.inventory.ItemStack;
 
 /**
@@ -8,4 +11,19 @@ import org.bukkit.inventory.ItemStack;
  */
 public non-sealed interface ItemGenerativeLootItem extends LootItem, LootItemGenerator<ItemStack> {
 
+    /**
+     * Generates the items of many runs with the same LootContext at once, as if {@link #generate(LootContext)} was
+     * called for each run. Override to generate them in aggregate.
+     *
+     * @param context The LootContext
+     * @param times The number of runs
+     * @return generated contents
+     */
+    default List<ItemStack> generate(LootContext context, int times) {
+        List<ItemStack> items = new ArrayList<>();
+        for (int i = 0; i < times; i++)
+            items.addAll(this.generate(context));
+        return items;
+    }
+
 }
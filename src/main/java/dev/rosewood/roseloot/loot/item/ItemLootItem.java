@@ -34,6 +34,8 @@ public class ItemLootItem implements ItemGenerativeLootItem {
     protected final EnchantmentBonus enchantmentBonus;
     protected final boolean smeltIfBurning;
     protected final StringProvider nbt;
+    private final PrototypeMode prototypeMode;
+    private volatile ItemStack prototype;
 
     public ItemLootItem(Material item, NumberProvider amount, NumberProvider maxAmount, List<AmountModifier> amountModifiers, ItemLootMeta itemLootMeta, EnchantmentBonus enchantmentBonus, boolean smeltIfBurning, StringProvider nbt) {
         this.item = item;
@@ -44,12 +46,19 @@ public class ItemLootItem implements ItemGenerativeLootItem {
         this.enchantmentBonus = enchantmentBonus;
         this.smeltIfBurning = smeltIfBurning;
         this.nbt = nbt;
+        this.prototypeMode = PrototypeMode.of(itemLootMeta, nbt);
     }
 
     protected ItemStack getCreationItem(LootContext context) {
+        boolean smelting = this.isSmelting(context);
+        if (!smelting) {
+            ItemStack prototypeItem = this.getPrototypeItem(context);
+            if (prototypeItem != null)
+                return prototypeItem;
+        }
+
         Material item = this.item;
-        Optional<LivingEntity> lootedEntity = context.get(LootContextParams.LOOTED_ENTITY);
-        if (this.smeltIfBurning && lootedEntity.isPresent() && lootedEntity.get().getFireTicks() > 0) {
+        if (smelting) {
             Iterator<Recipe> recipesIterator = Bukkit.recipeIterator();
             while (recipesIterator.hasNext()) {
                 Recipe recipe = recipesIterator.next();
@@ -69,8 +78,125 @@ public class ItemLootItem implements ItemGenerativeLootItem {
         return itemStack;
     }
 
+    /**
+     * @param context The LootContext
+     * @return true if the created item should be smelted
+     */
+    protected boolean isSmelting(LootContext context) {
+        if (!this.smeltIfBurning)
+            return false;
+
+        Optional<LivingEntity> lootedEntity = context.get(LootContextParams.LOOTED_ENTITY);
+        return lootedEntity.isPresent() && lootedEntity.get().getFireTicks() > 0;
+    }
+
+    /**
+     * Subclasses that pick a different base item each generation must return false
+     *
+     * @return true if the base item never changes and the created item can be copied from a prototype
+     */
+    protected boolean supportsPrototype() {
+        return true;
+    }
+
+    /**
+     * Creates the base item before any meta or nbt is applied
+     *
+     * @param context The LootContext
+     * @return the base item, or null if it could not be created
+     */
+    protected ItemStack createBaseItem(LootContext context) {
+        return new ItemStack(this.item);
+    }
+
+    /**
+     * Gets a copy of the prototype item with anything that varies between generations applied.
+     * The prototype is built on first use, since creating it may require hooks that are not loaded yet.
+     *
+     * @param context The LootContext
+     * @return a copy of the prototype item, or null if this item can't use a prototype
+     */
+    protected ItemStack getPrototypeItem(LootContext context) {
+        if (this.prototypeMode == PrototypeMode.NONE || !this.supportsPrototype())
+            return null;
+
+        ItemStack prototype = this.prototype;
+        if (prototype == null) {
+            ItemStack itemStack = this.createBaseItem(context);
+            if (itemStack == null)
+                return null;
+
+            if (this.prototypeMode == PrototypeMode.FULL) {
+                if (this.itemLootMeta != null)
+                    itemStack = this.itemLootMeta.apply(itemStack, context);
+                if (this.nbt != null)
+                    NBTAPIHook.mergeItemNBT(itemStack, this.nbt.get(context));
+            } else {
+                itemStack = this.itemLootMeta.applyStatic(itemStack, context);
+            }
+
+            this.prototype = prototype = itemStack;
+        }
+
+        ItemStack itemStack = prototype.clone();
+        if (this.prototypeMode == PrototypeMode.PARTIAL)
+            itemStack = this.itemLootMeta.applyDynamic(itemStack, context);
+        return itemStack;
+    }
+
     @Override
     public List<ItemStack> generate(LootContext context) {
+        int amount = this.generateAmount(context);
+
+        ItemStack creationItem = this.getCreationItem(context);
+        List<ItemStack> generatedItems = new ArrayList<>(LootUtils.createItemStackCopies(creationItem, amount));
+
+        context.getPlaceholders().add("item_amount", generatedItems.stream().mapToInt(ItemStack::getAmount).sum());
+
+        return generatedItems;
+    }
+
+    /**
+     * Items that are always created the same way are only created once for all runs, using the sum of their amounts.
+     * The total amount is calculated once if it can't vary between runs.
+     */
+    @Override
+    public List<ItemStack> generate(LootContext context, int times) {
+        if (times == 1 || !this.canGenerateInAggregate(context))
+            return ItemGenerativeLootItem.super.generate(context, times);
+
+        int amount;
+        if (this.amount.isConstant() && this.maxAmount.isConstant() && this.amountModifiers.isEmpty() && this.enchantmentBonus == null) {
+            amount = Math.max(0, Math.min(this.amount.getInteger(context), this.maxAmount.getInteger(context))) * times;
+        } else {
+            amount = 0;
+            for (int i = 0; i < times; i++)
+                amount += Math.max(0, this.generateAmount(context));
+        }
+
+        ItemStack creationItem = this.getCreationItem(context);
+        List<ItemStack> generatedItems = new ArrayList<>(LootUtils.createItemStackCopies(creationItem, amount));
+
+        context.getPlaceholders().add("item_amount", generatedItems.stream().mapToInt(ItemStack::getAmount).sum());
+
+        return generatedItems;
+    }
+
+    /**
+     * Subclasses that change the generated items must return false
+     *
+     * @param context The LootContext
+     * @return true if every run creates the same item and only the amount varies
+     */
+    protected boolean canGenerateInAggregate(LootContext context) {
+        return this.prototypeMode == PrototypeMode.FULL && this.supportsPrototype() && !this.isSmelting(context);
+    }
+
+    /**
+     * @param context The LootContext
+     * @return the amount of items to create for a single run
+     */
+    private int generateAmount(LootContext context) {
         int amount = this.amount.getInteger(context);
 
         for (AmountModifier amountModifier : this.amountModifiers) {
@@ -86,14 +212,26 @@ public class ItemLootItem implements ItemGenerativeLootItem {
 
         if (this.enchantmentBonus != null)
             amount += this.enchantmentBonus.getBonusAmount(context, amount);
-        amount = Math.min(amount, this.maxAmount.getInteger(context));
+        return Math.min(amount, this.maxAmount.getInteger(context));
+    }
 
-        ItemStack creationItem = this.getCreationItem(context);
-        List<ItemStack> generatedItems = new ArrayList<>(LootUtils.createItemStackCopies(creationItem, amount));
+    @Override
+    public boolean isSnapshotSafe() {
+        if (this.smeltIfBurning || !this.amount.isSnapshotSafe() || !this.maxAmount.isSnapshotSafe())
+            return false;
 
-        context.getPlaceholders().add("item_amount", generatedItems.stream().mapToInt(ItemStack::getAmount).sum());
+        // Meta that varies may copy from the looted block or resolve external placeholders
+        if (this.itemLootMeta != null && !this.itemLootMeta.isStatic())
+            return false;
 
-        return generatedItems;
+        if (this.nbt != null && !this.nbt.isConstant())
+            return false;
+
+        for (AmountModifier amountModifier : this.amountModifiers)
+            if (!amountModifier.isSnapshotSafe())
+                return false;
+
+        return this.enchantmentBonus == null || this.enchantmentBonus.isSnapshotSafe();
     }
 
     @Override
@@ -182,6 +320,10 @@ public class ItemLootItem implements ItemGenerativeLootItem {
             return this.value.getInteger(context);
         }
 
+        public boolean isSnapshotSafe() {
+            return this.value.isSnapshotSafe() && this.conditions.stream().allMatch(LootCondition::isSnapshotSafe);
+        }
+
     }
 
     public record EnchantmentBonus(BonusFormula formula, Enchantment enchantment, NumberProvider bonus, NumberProvider probability) {
@@ -196,10 +338,7 @@ public class ItemLootItem implements ItemGenerativeLootItem {
                 case UNIFORM -> bonus += LootUtils.randomInRange(0, this.bonus.getInteger(context) * level);
                 case BINOMIAL -> {
                     int n = level + this.bonus.getInteger(context);
-                    double p = this.probability.getDouble(context);
-                    for (int i = 0; i < n; i++)
-                        if (LootUtils.checkChance(p))
-                            bonus++;
+                    bonus += LootUtils.randomBinomial(n, this.probability.getDouble(context));
                 }
                 case ORE_DROPS -> {
                     int multiplier = LootUtils.RANDOM.nextInt(level + 2) - 1;
@@ -210,6 +349,29 @@ public class ItemLootItem implements ItemGenerativeLootItem {
             return bonus;
         }
 
+        public boolean isSnapshotSafe() {
+            return this.bonus.isSnapshotSafe() && this.probability.isSnapshotSafe();
+        }
+
+    }
+
+    /**
+     * How much of the created item can be reused between generations
+     */
+    private enum PrototypeMode {
+        NONE,    // Everything must be created each generation
+        PARTIAL, // Only the meta properties that vary need to be applied to a copy of the prototype
+        FULL;    // The created item never changes, a copy of the prototype can be used as-is
+
+        public static PrototypeMode of(ItemLootMeta itemLootMeta, StringProvider nbt) {
+            if (itemLootMeta == null || itemLootMeta.isStatic())
+                return nbt == null || nbt.isConstant() ? FULL : NONE;
+
+            if (itemLootMeta.supportsPartialApply() && nbt == null)
+                return PARTIAL; // NBT is merged after all meta is applied, so it can't be part of the prototype
+
+            return NONE;
+        }
     }
 
     public enum BonusFormula {
@@ -1,5 +1,7 @@
 package dev.rosewood.roseloot.loot.item;
 
+import dev.rosewood.roseloot.loot.context.LootContext;
+
 /**
  * Represents an item that can generate loot.
  * <br>
@@ -24,4 +26,36 @@ public sealed interface LootItem permits ItemGenerativeLootItem, ExperienceGener
         return false;
     }
 
+    /**
+     * Gets the key used to find another LootItem to combine with.
+     * LootItems with equal combine keys must always be able to {@link #combineWith(LootItem)} each other.
+     *
+     * @return the combine key, or null if this LootItem never combines
+     */
+    default Object getCombineKey() {
+        return null;
+    }
+
+    /**
+     * Creates a copy of this LootItem for other LootItems to be combined into, so the configured LootItem is never changed.
+     * Must be overridden by LootItems with a combine key.
+     *
+     * @return a copy of this LootItem
+     */
+    default LootItem copy() {
+        return this;
+    }
+
+    /**
+     * Snapshot safe LootItems can be populated and generated off the main thread using a {@link LootContext#snapshot()}.
+     * TriggerableLootItems are only triggered on the main thread, so by default they are safe as long as they aren't
+     * triggered automatically and don't combine. Combinable LootItems are copied with {@link #copy()} and combined while
+     * populating, so they must override this themselves once their copies are safe to create off the main thread.
+     *
+     * @return true if this LootItem can be populated and generated off the main thread
+     */
+    default boolean isSnapshotSafe() {
+        return this instanceof TriggerableLootItem && !(this instanceof AutoTriggerableLootItem) && this.getCombineKey() == null;
+    }
+
 }
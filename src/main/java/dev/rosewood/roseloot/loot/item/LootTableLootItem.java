@@ -27,6 +27,7 @@ public class LootTableLootItem implements RecursiveLootItem {
     private LootTable lootTable;
     private org.bukkit.loot.LootTable vanillaLootTable;
     private boolean running;
+    private int loadGeneration;
 
     public LootTableLootItem(String lootTableName) {
         this.lootTableName = lootTableName;
@@ -34,12 +35,21 @@ public class LootTableLootItem implements RecursiveLootItem {
 
     @Override
     public List<LootItem> generate(LootContext context) {
+        // Loot tables that are unchanged are kept between reloads, the referenced loot table may have been reloaded though
+        RosePlugin rosePlugin = RoseLoot.getInstance();
+        LootTableManager lootTableManager = rosePlugin.getManager(LootTableManager.class);
+        if (this.loadGeneration != lootTableManager.getLoadGeneration()) {
+            this.loadGeneration = lootTableManager.getLoadGeneration();
+            this.invalid = false;
+            this.lootTable = null;
+            this.vanillaLootTable = null;
+        }
+
         if (this.invalid)
             return List.of();
 
         if (this.lootTable == null && this.vanillaLootTable == null) {
-            RosePlugin rosePlugin = RoseLoot.getInstance();
-            this.lootTable = rosePlugin.getManager(LootTableManager.class).getLootTable(LootTableTypes.LOOT_TABLE, this.lootTableName);
+            this.lootTable = lootTableManager.getLootTable(LootTableTypes.LOOT_TABLE, this.lootTableName);
             if (this.lootTable == null) {
                 NamespacedKey key = NamespacedKey.fromString(this.lootTableName);
                 if (key != null)
@@ -2,6 +2,7 @@ package dev.rosewood.roseloot.loot.item;
 
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.provider.NumberProvider;
+import dev.rosewood.roseloot.provider.StringTemplate;
 import java.util.function.Consumer;
 import net.md_5.bungee.api.ChatMessageType;
 import net.md_5.bungee.api.chat.TextComponent;
@@ -15,13 +16,13 @@ import org.bukkit.entity.Player;
 public class MessageLootItem implements TriggerableLootItem {
 
     private final MessageType messageType;
-    private final String message;
+    private final StringTemplate message;
     private final NumberProvider fadeIn, duration, fadeOut;
     private final boolean broadcast;
 
     public MessageLootItem(MessageType messageType, String message, NumberProvider fadeIn, NumberProvider duration, NumberProvider fadeOut, boolean broadcast) {
         this.messageType = messageType;
-        this.message = message;
+        this.message = StringTemplate.parse(message);
         this.fadeIn = fadeIn;
         this.duration = duration;
         this.fadeOut = fadeOut;
@@ -32,11 +33,11 @@ public class MessageLootItem implements TriggerableLootItem {
     public void trigger(LootContext context, Location location) {
         Consumer<Player> consumer = player -> {
             switch (this.messageType) {
-                case CHAT_RAW -> player.spigot().sendMessage(ChatMessageType.CHAT, ComponentSerializer.parse(context.applyPlaceholders(this.message)));
-                case CHAT -> player.sendMessage(context.formatText(this.message));
-                case HOTBAR -> player.spigot().sendMessage(ChatMessageType.ACTION_BAR, TextComponent.fromLegacyText(context.formatText(this.message)));
-                case TITLE -> player.sendTitle(context.formatText(this.message), null, this.fadeIn.getInteger(context), this.duration.getInteger(context), this.fadeOut.getInteger(context));
-                case SUBTITLE -> player.sendTitle(null, context.formatText(this.message), this.fadeIn.getInteger(context), this.duration.getInteger(context), this.fadeOut.getInteger(context));
+                case CHAT_RAW -> player.spigot().sendMessage(ChatMessageType.CHAT, ComponentSerializer.parse(this.message.apply(context)));
+                case CHAT -> player.sendMessage(this.message.format(context));
+                case HOTBAR -> player.spigot().sendMessage(ChatMessageType.ACTION_BAR, TextComponent.fromLegacyText(this.message.format(context)));
+                case TITLE -> player.sendTitle(this.message.format(context), null, this.fadeIn.getInteger(context), this.duration.getInteger(context), this.fadeOut.getInteger(context));
+                case SUBTITLE -> player.sendTitle(null, this.message.format(context), this.fadeIn.getInteger(context), this.duration.getInteger(context), this.fadeOut.getInteger(context));
             }
         };
 
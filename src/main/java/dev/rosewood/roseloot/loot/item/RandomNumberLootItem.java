@@ -29,6 +29,11 @@ public class RandomNumberLootItem implements AutoTriggerableLootItem {
         }
     }
 
+    @Override
+    public boolean isSnapshotSafe() {
+        return this.numberProvider.isSnapshotSafe(); // Only sets placeholders
+    }
+
     public static RandomNumberLootItem fromSection(ConfigurationSection section) {
         String id = section.getString("id", "");
         NumberProvider number = NumberProvider.fromSection(section, "number", 0);
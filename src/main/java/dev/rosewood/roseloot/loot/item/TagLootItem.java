@@ -35,6 +35,16 @@ public class TagLootItem extends ItemLootItem {
         return super.getCreationItem(context);
     }
 
+    @Override
+    protected boolean supportsPrototype() {
+        return false; // A different item is picked from the tag each time
+    }
+
+    @Override
+    public boolean isSnapshotSafe() {
+        return false; // The picked item is stored on this LootItem while generating
+    }
+
     public static TagLootItem fromSection(ConfigurationSection section) {
         String tagString = section.getString("tag");
         if (tagString == null)
@@ -31,6 +31,11 @@ public class VoucherLootItem extends ItemLootItem {
         return items;
     }
 
+    @Override
+    protected boolean canGenerateInAggregate(LootContext context) {
+        return false; // The voucher data is applied to the items of each run
+    }
+
     public static VoucherLootItem fromSection(ConfigurationSection section) {
         String lootTable = section.getString("loottable");
         if (lootTable == null)
@@ -49,6 +49,11 @@ public class AxolotlBucketItemLootMeta extends ItemLootMeta {
         return itemStack;
     }
 
+    @Override
+    public boolean isStatic() {
+        return super.isStatic() && !this.copyLooted;
+    }
+
     public static void applyProperties(ItemStack itemStack, StringBuilder stringBuilder) {
         AxolotlBucketMeta itemMeta = (AxolotlBucketMeta) itemStack.getItemMeta();
         if (itemMeta == null)
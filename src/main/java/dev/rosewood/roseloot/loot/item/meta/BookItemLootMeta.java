@@ -57,6 +57,14 @@ public class BookItemLootMeta extends ItemLootMeta {
         return itemStack;
     }
 
+    @Override
+    public boolean isStatic() {
+        return super.isStatic()
+                && (this.title == null || this.title.isConstant())
+                && (this.author == null || this.author.isConstant())
+                && (this.pages == null || this.pages.isConstantList());
+    }
+
     public static void applyProperties(ItemStack itemStack, StringBuilder stringBuilder) {
         BookMeta itemMeta = (BookMeta) itemStack.getItemMeta();
         if (itemMeta == null)
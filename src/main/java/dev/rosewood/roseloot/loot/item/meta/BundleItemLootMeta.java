@@ -49,6 +49,11 @@ public class BundleItemLootMeta extends ItemLootMeta {
         return itemStack;
     }
 
+    @Override
+    public boolean isStatic() {
+        return false; // The contents are generated from other loot items
+    }
+
     public static void applyProperties(ItemStack itemStack, StringBuilder stringBuilder) {
         BundleMeta itemMeta = (BundleMeta) itemStack.getItemMeta();
         if (itemMeta == null)
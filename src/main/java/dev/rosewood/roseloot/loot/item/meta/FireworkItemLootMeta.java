@@ -93,6 +93,11 @@ public class FireworkItemLootMeta extends ItemLootMeta {
         return itemStack;
     }
 
+    @Override
+    public boolean isStatic() {
+        return super.isStatic() && (this.power == null || this.power.isConstant());
+    }
+
     public static void applyProperties(ItemStack itemStack, StringBuilder stringBuilder) {
         FireworkMeta itemMeta = (FireworkMeta) itemStack.getItemMeta();
         if (itemMeta == null)
@@ -49,6 +49,7 @@ public class ItemLootMeta {
     protected Boolean copyBlockState;
     protected Boolean copyBlockData;
     protected Boolean copyBlockName;
+    private final boolean staticDisplayName, staticLore, staticEnchantments, staticDurability, dynamicProperties;
 
     public ItemLootMeta(ConfigurationSection section) {
         this.displayName = StringProvider.fromSection(section, "display-name", null);
@@ -193,6 +194,15 @@ public class ItemLootMeta {
 
         if (section.getBoolean("copy-block-name", false))
             this.copyBlockName = true;
+
+        this.staticDisplayName = this.displayName == null || this.displayName.isConstant();
+        this.staticLore = this.lore == null || this.lore.isConstantList();
+        this.staticEnchantments = this.randomEnchantments == null && (this.enchantments == null || this.enchantments.stream().allMatch(x -> x.level().isConstant()));
+        this.staticDurability = this.maxDurability == null;
+        this.dynamicProperties = !this.staticDisplayName || !this.staticLore || !this.staticEnchantments || !this.staticDurability
+                || this.attributes != null // Attribute modifiers always get a new random UUID
+                || this.enchantmentLevel != null
+                || this.copyBlockState != null || this.copyBlockData != null || this.copyBlockName != null;
     }
 
     /**
@@ -202,19 +212,79 @@ public class ItemLootMeta {
      * @param context The LootContext, nullable
      * @return The same ItemStack
      */
-    @SuppressWarnings("deprecation")
     public ItemStack apply(ItemStack itemStack, LootContext context) {
+        return this.apply(itemStack, context, true, true);
+    }
+
+    /**
+     * Applies only the stored ItemMeta information that never changes, used to build a prototype ItemStack.
+     * Only valid if {@link #supportsPartialApply()} is true.
+     *
+     * @param itemStack The ItemStack to apply ItemMeta to
+     * @param context The LootContext
+     * @return The same ItemStack
+     */
+    public ItemStack applyStatic(ItemStack itemStack, LootContext context) {
+        return this.apply(itemStack, context, true, false);
+    }
+
+    /**
+     * Applies only the stored ItemMeta information that may change between generations on top of a prototype
+     * ItemStack built with {@link #applyStatic(ItemStack, LootContext)}.
+     * Only valid if {@link #supportsPartialApply()} is true.
+     *
+     * @param itemStack The ItemStack to apply ItemMeta to
+     * @param context The LootContext
+     * @return The same ItemStack
+     */
+    public ItemStack applyDynamic(ItemStack itemStack, LootContext context) {
+        if (!this.dynamicProperties)
+            return itemStack;
+        return this.apply(itemStack, context, false, true);
+    }
+
+    /**
+     * Subclasses must override this if they apply anything that depends on the LootContext or randomness
+     *
+     * @return true if applying this meta always results in the same ItemStack
+     */
+    public boolean isStatic() {
+        return !this.dynamicProperties;
+    }
+
+    /**
+     * Subclasses apply all of their properties at once, so they can only be applied in full
+     *
+     * @return true if this meta can be applied in separate static and dynamic parts
+     */
+    public boolean supportsPartialApply() {
+        return this.getClass() == ItemLootMeta.class;
+    }
+
+    /**
+     * Applies stored ItemMeta information to the given ItemStack
+     *
+     * @param itemStack The ItemStack to apply ItemMeta to
+     * @param context The LootContext, nullable
+     * @param applyStatic true to apply the properties that never change
+     * @param applyDynamic true to apply the properties that may change between generations
+     * @return The same ItemStack
+     */
+    @SuppressWarnings("deprecation")
+    private ItemStack apply(ItemStack itemStack, LootContext context, boolean applyStatic, boolean applyDynamic) {
         ItemMeta itemMeta = itemStack.getItemMeta();
         if (itemMeta == null)
             return itemStack;
 
-        if (this.displayName != null) itemMeta.setDisplayName(this.displayName.getFormatted(context));
-        if (this.lore != null) itemMeta.setLore(this.lore.getListFormatted(context));
-        if (this.customModelData != null) itemMeta.setCustomModelData(this.customModelData);
-        if (this.unbreakable != null) itemMeta.setUnbreakable(this.unbreakable);
-        if (this.hideFlags != null) itemMeta.addItemFlags(this.hideFlags.toArray(new ItemFlag[0]));
+        if (this.displayName != null && (this.staticDisplayName ? applyStatic : applyDynamic)) itemMeta.setDisplayName(this.displayName.getFormatted(context));
+        if (this.lore != null && (this.staticLore ? applyStatic : applyDynamic)) itemMeta.setLore(this.lore.getListFormatted(context));
+        if (applyStatic) {
+            if (this.customModelData != null) itemMeta.setCustomModelData(this.customModelData);
+            if (this.unbreakable != null) itemMeta.setUnbreakable(this.unbreakable);
+            if (this.hideFlags != null) itemMeta.addItemFlags(this.hideFlags.toArray(new ItemFlag[0]));
+        }
 
-        if (itemStack.getType() != Material.ENCHANTED_BOOK) {
+        if (itemStack.getType() != Material.ENCHANTED_BOOK && (this.staticEnchantments ? applyStatic : applyDynamic)) {
             if (this.randomEnchantments != null) {
                 List<Enchantment> possibleEnchantments = new ArrayList<>();
                 if (!this.randomEnchantments.isEmpty()) {
@@ -243,13 +313,13 @@ public class ItemLootMeta {
             }
         }
 
-        if (this.attributes != null) {
+        if (applyDynamic && this.attributes != null) {
             Multimap<Attribute, AttributeModifier> attributes = ArrayListMultimap.create();
             this.attributes.forEach(x -> attributes.put(x.attribute(), x.toAttributeModifier(context)));
             itemMeta.setAttributeModifiers(attributes);
         }
 
-        if (itemMeta instanceof Damageable damageable && this.minDurability != null) {
+        if (itemMeta instanceof Damageable damageable && this.minDurability != null && (this.staticDurability ? applyStatic : applyDynamic)) {
             int max = itemStack.getType().getMaxDurability();
             if (this.maxDurability == null) {
                 // Set fixed durability value
@@ -263,10 +333,10 @@ public class ItemLootMeta {
             }
         }
 
-        if (this.repairCost != null && itemMeta instanceof Repairable)
+        if (applyStatic && this.repairCost != null && itemMeta instanceof Repairable)
             ((Repairable) itemMeta).setRepairCost(this.repairCost);
 
-        Optional<BlockInfo> lootedBlock = context.getLootedBlockInfo();
+        Optional<BlockInfo> lootedBlock = applyDynamic ? context.getLootedBlockInfo() : Optional.empty();
         if (lootedBlock.isPresent() && lootedBlock.get().getMaterial() == itemStack.getType()) {
             BlockInfo block = lootedBlock.get();
             if (this.copyBlockState != null && this.copyBlockState && itemMeta instanceof BlockStateMeta blockStateMeta)
@@ -281,7 +351,7 @@ public class ItemLootMeta {
 
         itemStack.setItemMeta(itemMeta);
 
-        if (this.enchantmentLevel != null)
+        if (applyDynamic && this.enchantmentLevel != null)
             itemStack = EnchantingUtils.randomlyEnchant(itemStack, this.enchantmentLevel.getInteger(context), this.includeTreasureEnchantments);
 
         return itemStack;
@@ -91,6 +91,11 @@ public class MapItemLootMeta extends ItemLootMeta {
         return super.apply(explorerMap, context);
     }
 
+    @Override
+    public boolean isStatic() {
+        return false; // Depends on the location of the LootContext
+    }
+
     public static void applyProperties(ItemStack itemStack, StringBuilder stringBuilder) {
         // Nothing to see here
     }
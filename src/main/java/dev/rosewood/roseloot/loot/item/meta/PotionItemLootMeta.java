@@ -91,6 +91,11 @@ public class PotionItemLootMeta extends ItemLootMeta {
         return itemStack;
     }
 
+    @Override
+    public boolean isStatic() {
+        return super.isStatic() && (this.customEffects == null || this.customEffects.keySet().stream().allMatch(PotionEffectData::isConstant));
+    }
+
     public static void applyProperties(ItemStack itemStack, StringBuilder stringBuilder) {
         PotionMeta itemMeta = (PotionMeta) itemStack.getItemMeta();
         if (itemMeta == null)
@@ -140,6 +145,10 @@ public class PotionItemLootMeta extends ItemLootMeta {
             return new PotionEffect(this.potionEffectType, this.duration.getInteger(context), this.amplifier.getInteger(context), this.ambient, this.particles, this.icon);
         }
 
+        public boolean isConstant() {
+            return this.duration.isConstant() && this.amplifier.isConstant();
+        }
+
     }
 
 }
@@ -64,6 +64,15 @@ public class SkullItemLootMeta extends ItemLootMeta {
         return itemStack;
     }
 
+    @Override
+    public boolean isStatic() {
+        return super.isStatic()
+                && !this.copyLooted && !this.copyLooter
+                && (this.texture == null || this.texture.isConstant())
+                && (this.owner == null || this.owner.isConstant())
+                && (this.hdbId == null || this.hdbId.isConstant());
+    }
+
     public static void applyProperties(ItemStack itemStack, StringBuilder stringBuilder) {
         SkullMeta itemMeta = (SkullMeta) itemStack.getItemMeta();
         if (itemMeta == null)
@@ -74,6 +74,11 @@ public class SuspiciousStewItemLootMeta extends ItemLootMeta {
         return itemStack;
     }
 
+    @Override
+    public boolean isStatic() {
+        return false; // Effects may be picked randomly
+    }
+
     public static void applyProperties(ItemStack itemStack, StringBuilder stringBuilder) {
         SuspiciousStewMeta itemMeta = (SuspiciousStewMeta) itemStack.getItemMeta();
         if (itemMeta == null)
@@ -77,6 +77,11 @@ public class TropicalFishBucketItemLootMeta extends ItemLootMeta {
         return itemStack;
     }
 
+    @Override
+    public boolean isStatic() {
+        return super.isStatic() && !this.copyLooted;
+    }
+
     public static void applyProperties(ItemStack itemStack, StringBuilder stringBuilder) {
         TropicalFishBucketMeta itemMeta = (TropicalFishBucketMeta) itemStack.getItemMeta();
         if (itemMeta == null)
@@ -15,7 +15,20 @@ public class ConfigurationManager extends AbstractConfigurationManager {
         PIGLIN_BARTER_ITEMS("piglin-barter-items", List.of("GOLD_INGOT"), "A list of items that piglins will pick up for bartering", "This requires at least one bartering loot table to be enabled"),
         SIMULATE_BLOCKDROPITEMEVENT("simulate-blockdropitemevent", false, "Should the BlockBreakItemEvent be simulated for custom item drops from blocks?", "May be required for some plugins that add items to the player's inventory automatically", "This may cause issues with some stacker plugins"),
         SIMULATE_LEAVESDECAYEVENT("simulate-leavesdecayevent", false, "Should the LeavesDecayEvent be simulated for custom item drops from leaves?", "May be required for some plugins that listen to the event"),
-        CALL_POSTLOOTGENERATEEVENT("call-postlootgenerateevent", false, "Should the PostLootGenerateEvent be called after loot tables are run?", "You may need to enable this if you're using a plugin that uses the RoseLoot API");
+        CALL_POSTLOOTGENERATEEVENT("call-postlootgenerateevent", false, "Should the PostLootGenerateEvent be called after loot tables are run?", "You may need to enable this if you're using a plugin that uses the RoseLoot API"),
+        ASYNC_LOOT_GENERATION("async-loot-generation", false, "Should leaf decay and container loot be generated off the main thread?", "Loot table conditions are still checked on the main thread, only populating the loot tables and creating the items is moved", "Loot tables that use placeholders, custom items, or anything else that isn't thread safe always run on the main thread", "Loot tables can set 'snapshot-safe: false' to always run on the main thread, or 'snapshot-safe: true' to skip the check", "The loot will show up one tick later when enabled"),
+        ASYNC_LOOT_GENERATION_THREADS("async-loot-generation-threads", 2, "The number of threads used to generate loot off the main thread"),
+        PARALLEL_LOOT_TABLE_LOADING("parallel-loot-table-loading", false, "Should loot table files be parsed on multiple threads when reloading?", "Loot items and conditions added by other plugins are also parsed on those threads, only enable this if they support it"),
+        INCREMENTAL_LOOT_TABLE_LOADING("incremental-loot-table-loading", true, "Should loot table files that haven't changed since the last reload be reused instead of parsed again?", "Files are parsed again if their size, last modified time, or contents change, or if plugins were added or removed"),
+        WATCH_LOOT_TABLE_FILES("watch-loot-table-files", false, "Should loot table files be loaded again automatically when they change?", "Only the changed files are loaded again, files in the examples and disabled directories are ignored"),
+        WATCH_LOOT_TABLE_FILES_DELAY("watch-loot-table-files-delay", 500, "How long to wait for a loot table file to stop changing before loading it, in milliseconds", "Prevents loading files that are still being saved"),
+        CACHE_LOOT_TABLE_FILES("cache-loot-table-files", true, "Should parsed loot table files be cached to speed up loading them?", "The cache is stored in cache/loottables.bin and only used for files that haven't changed since they were cached"),
+        COOLDOWN_SAVE_INTERVAL("cooldown-save-interval", 5, "How often changed cooldowns are saved to the database, in seconds"),
+        TRACE_SLOW_LOOT_GENERATION("trace-slow-loot-generation", false, "Should the decision path of loot generations that take too long be captured?", "Captured traces can be written to a file with /loot profile dump"),
+        TRACE_SLOW_LOOT_GENERATION_THRESHOLD("trace-slow-loot-generation-threshold", 20, "How long a loot generation must take for its trace to be captured, in milliseconds"),
+        TRACE_SLOW_LOOT_GENERATION_BUFFER_SIZE("trace-slow-loot-generation-buffer-size", 50, "How many captured traces to keep, the oldest ones are discarded first"),
+        DROP_MERGE_RADIUS("drop-merge-radius", 0.0, "Similar loot items dropped within this many blocks of each other are merged into as few item entities as possible", "When enabled, dropped items are spawned at least one tick later, which may affect plugins that handle the dropped items", "Set to 0 to spawn every dropped item right away without merging"),
+        DROP_MERGE_DELAY("drop-merge-delay", 1, "How many ticks to wait for more drops to merge with before spawning the dropped items", "Drops are always spawned on the next tick at the earliest");
 
         private final String key;
         private final Object defaultValue;
@@ -1,22 +1,46 @@
 package dev.rosewood.roseloot.manager;
 
-import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.Multimap;
 import dev.rosewood.rosegarden.RosePlugin;
 import dev.rosewood.rosegarden.manager.Manager;
+import dev.rosewood.roseloot.manager.ConfigurationManager.Setting;
 import dev.rosewood.roseloot.util.TimeUtils;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
 
 public class CooldownManager extends Manager {
 
-    private final Multimap<String, Cooldown> cooldowns;
+    // Cooldown ID -> (Player, null for global -> Cooldown)
+    private final Map<String, Map<UUID, Cooldown>> cooldownsById;
+    // Player, null for global -> (Cooldown ID -> Cooldown)
+    private final Map<UUID, Map<String, Cooldown>> cooldownsByPlayer;
+    // Every cooldown, soonest to expire first. May still contain cooldowns that were reset or replaced.
+    private final PriorityQueue<Cooldown> expirationQueue;
+    // Changes that have not been written to the database yet, only the latest change for each cooldown is kept
+    private Map<CooldownKey, Cooldown> changedCooldowns;
+    private Map<CooldownKey, Cooldown> removedCooldowns;
+    private boolean expiredCooldowns;
+    private ExecutorService writer;
+    private BukkitTask expirationTask;
+    private BukkitTask saveTask;
 
     public CooldownManager(RosePlugin rosePlugin) {
         super(rosePlugin);
-        this.cooldowns = ArrayListMultimap.create();
+        this.cooldownsById = new HashMap<>();
+        this.cooldownsByPlayer = new HashMap<>();
+        this.expirationQueue = new PriorityQueue<>(Comparator.comparingLong(Cooldown::expiration));
+        this.changedCooldowns = new HashMap<>();
+        this.removedCooldowns = new HashMap<>();
     }
 
     /**
@@ -28,18 +52,20 @@ public class CooldownManager extends Manager {
      * @return true if a new cooldown was started, false if one already existed
      */
     public boolean checkCooldown(String cooldownId, UUID player, long expiration) {
-        // Remove any expired cooldowns
-        this.cooldowns.values().removeIf(Cooldown::isExpired);
-
-        Cooldown cooldown = this.cooldowns.get(cooldownId).stream()
-                .filter(x -> Objects.equals(x.player(), player))
-                .findFirst()
-                .orElse(null);
+        Map<UUID, Cooldown> cooldowns = this.cooldownsById.get(cooldownId);
+        if (cooldowns != null) {
+            // May have expired since the last time expired cooldowns were removed
+            Cooldown cooldown = cooldowns.get(player);
+            if (cooldown != null && cooldown.isValid())
+                return false;
+        }
 
-        if (cooldown != null)
-            return false;
+        Cooldown cooldown = new Cooldown(cooldownId, player, System.currentTimeMillis() + expiration);
+        this.add(cooldown);
 
-        this.cooldowns.put(cooldownId, new Cooldown(cooldownId, player, System.currentTimeMillis() + expiration));
+        CooldownKey key = new CooldownKey(cooldownId, player);
+        this.changedCooldowns.put(key, cooldown);
+        this.removedCooldowns.remove(key);
         return true;
     }
 
@@ -50,10 +76,22 @@ public class CooldownManager extends Manager {
      * @return All active cooldowns for the player
      */
     public Collection<Cooldown> getActiveCooldowns(UUID player) {
-        return this.cooldowns.values().stream()
-                .filter(x -> x.player() == null || x.player().equals(player))
-                .filter(Cooldown::isValid)
-                .toList();
+        List<Cooldown> activeCooldowns = new ArrayList<>();
+        Map<String, Cooldown> globalCooldowns = this.cooldownsByPlayer.get(null);
+        if (globalCooldowns != null)
+            for (Cooldown cooldown : globalCooldowns.values())
+                if (cooldown.isValid())
+                    activeCooldowns.add(cooldown);
+
+        if (player != null) {
+            Map<String, Cooldown> playerCooldowns = this.cooldownsByPlayer.get(player);
+            if (playerCooldowns != null)
+                for (Cooldown cooldown : playerCooldowns.values())
+                    if (cooldown.isValid())
+                        activeCooldowns.add(cooldown);
+        }
+
+        return activeCooldowns;
     }
 
     /**
@@ -62,23 +100,128 @@ public class CooldownManager extends Manager {
      * @param player The player to reset cooldowns for
      */
     public void resetCooldowns(UUID player) {
-        this.cooldowns.values().removeIf(x -> Objects.equals(x.player(), player));
+        Map<String, Cooldown> playerCooldowns = this.cooldownsByPlayer.remove(player);
+        if (playerCooldowns == null)
+            return;
+
+        // Reset cooldowns are left in the expiration queue, they are skipped once they expire
+        for (Cooldown cooldown : playerCooldowns.values()) {
+            this.removeById(cooldown);
+
+            CooldownKey key = new CooldownKey(cooldown.id(), cooldown.player());
+            this.changedCooldowns.remove(key);
+            this.removedCooldowns.put(key, cooldown);
+        }
+    }
+
+    private void add(Cooldown cooldown) {
+        this.cooldownsById.computeIfAbsent(cooldown.id(), x -> new HashMap<>()).put(cooldown.player(), cooldown);
+        this.cooldownsByPlayer.computeIfAbsent(cooldown.player(), x -> new HashMap<>()).put(cooldown.id(), cooldown);
+        this.expirationQueue.add(cooldown);
+    }
+
+    /**
+     * Removes cooldowns that have expired, runs once per tick
+     */
+    private void removeExpiredCooldowns() {
+        long now = System.currentTimeMillis();
+        while (!this.expirationQueue.isEmpty() && this.expirationQueue.peek().expiration() < now) {
+            Cooldown cooldown = this.expirationQueue.poll();
+
+            // Only remove the cooldown if it is still the one stored, it may have been reset or replaced since
+            Map<String, Cooldown> playerCooldowns = this.cooldownsByPlayer.get(cooldown.player());
+            if (playerCooldowns == null || playerCooldowns.get(cooldown.id()) != cooldown)
+                continue;
+
+            playerCooldowns.remove(cooldown.id());
+            if (playerCooldowns.isEmpty())
+                this.cooldownsByPlayer.remove(cooldown.player());
+            this.removeById(cooldown);
+            this.expiredCooldowns = true;
+        }
+    }
+
+    /**
+     * Hands the changes made since the last save over to be written to the database on the writer thread
+     */
+    private void saveChanges() {
+        if (this.changedCooldowns.isEmpty() && this.removedCooldowns.isEmpty() && !this.expiredCooldowns)
+            return;
+
+        Collection<Cooldown> changed = this.changedCooldowns.values();
+        Collection<Cooldown> removed = this.removedCooldowns.values();
+        this.changedCooldowns = new HashMap<>();
+        this.removedCooldowns = new HashMap<>();
+        this.expiredCooldowns = false;
+
+        // A single writer thread keeps the writes in the order the changes were made
+        DataManager dataManager = this.rosePlugin.getManager(DataManager.class);
+        long now = System.currentTimeMillis();
+        this.writer.execute(() -> dataManager.updateCooldowns(changed, removed, now));
+    }
+
+    private void removeById(Cooldown cooldown) {
+        Map<UUID, Cooldown> cooldowns = this.cooldownsById.get(cooldown.id());
+        if (cooldowns == null)
+            return;
+
+        cooldowns.remove(cooldown.player(), cooldown);
+        if (cooldowns.isEmpty())
+            this.cooldownsById.remove(cooldown.id());
     }
 
     @Override
     public void reload() {
         this.rosePlugin.getManager(DataManager.class).getCooldowns().stream()
                 .filter(Cooldown::isValid)
-                .forEach(x -> this.cooldowns.put(x.id(), x));
+                .forEach(this::add);
+
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "RoseLoot Cooldown Writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long saveInterval = Math.max(1, Setting.COOLDOWN_SAVE_INTERVAL.getInt()) * 20L;
+        this.expirationTask = Bukkit.getScheduler().runTaskTimer(this.rosePlugin, this::removeExpiredCooldowns, 1L, 1L);
+        this.saveTask = Bukkit.getScheduler().runTaskTimer(this.rosePlugin, this::saveChanges, saveInterval, saveInterval);
     }
 
     @Override
     public void disable() {
-        List<Cooldown> cooldowns = this.cooldowns.values().stream().filter(Cooldown::isValid).toList();
-        this.rosePlugin.getManager(DataManager.class).setCooldowns(cooldowns);
-        this.cooldowns.clear();
+        if (this.expirationTask != null) {
+            this.expirationTask.cancel();
+            this.expirationTask = null;
+        }
+
+        if (this.saveTask != null) {
+            this.saveTask.cancel();
+            this.saveTask = null;
+        }
+
+        // Everything else has already been saved, only the changes since the last save are left to write
+        if (this.writer != null) {
+            this.saveChanges();
+            this.writer.shutdown();
+            try {
+                if (!this.writer.awaitTermination(10, TimeUnit.SECONDS))
+                    this.rosePlugin.getLogger().warning("Timed out while saving cooldowns, some may not have been saved");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            this.writer = null;
+        }
+
+        this.changedCooldowns.clear();
+        this.removedCooldowns.clear();
+        this.expiredCooldowns = false;
+        this.cooldownsById.clear();
+        this.cooldownsByPlayer.clear();
+        this.expirationQueue.clear();
     }
 
+    private record CooldownKey(String id, UUID player) { }
+
     public record Cooldown(String id, UUID player, long expiration) {
 
         public boolean isExpired() {
@@ -5,8 +5,11 @@ import dev.rosewood.rosegarden.database.DataMigration;
 import dev.rosewood.rosegarden.database.SQLiteConnector;
 import dev.rosewood.rosegarden.manager.AbstractDataManager;
 import dev.rosewood.roseloot.database.migrations._1_Add_Table_Cooldowns;
+import dev.rosewood.roseloot.database.migrations._2_Support_Global_Cooldowns;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -21,7 +24,8 @@ public class DataManager extends AbstractDataManager {
     @Override
     public List<Class<? extends DataMigration>> getDataMigrations() {
         return List.of(
-                _1_Add_Table_Cooldowns.class
+                _1_Add_Table_Cooldowns.class,
+                _2_Support_Global_Cooldowns.class
         );
     }
 
@@ -29,26 +33,65 @@ public class DataManager extends AbstractDataManager {
     public void reload() {
         this.databaseConnector = new SQLiteConnector(this.rosePlugin);
         this.databaseConnector.cleanup();
-    }
 
-    public void setCooldowns(Collection<CooldownManager.Cooldown> cooldowns) {
+        // Cooldowns are written often from another thread, write-ahead logging keeps those writes cheap and non-blocking for reads
         this.databaseConnector.connect(connection -> {
-            try (PreparedStatement statement = connection.prepareStatement("DELETE FROM " + this.getTablePrefix() + "cooldowns")) {
-                statement.executeUpdate();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PRAGMA journal_mode=WAL");
+                statement.execute("PRAGMA synchronous=NORMAL");
             }
+        });
+    }
+
+    /**
+     * Writes changed cooldowns to the database and deletes removed and expired ones
+     *
+     * @param changed The cooldowns that were added or changed
+     * @param removed The cooldowns that were removed before they expired
+     * @param expiredBefore Cooldowns with an expiration time before this are deleted
+     */
+    public void updateCooldowns(Collection<CooldownManager.Cooldown> changed, Collection<CooldownManager.Cooldown> removed, long expiredBefore) {
+        this.databaseConnector.connect(connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                if (!changed.isEmpty()) {
+                    String upsert = "INSERT INTO " + this.getTablePrefix() + "cooldowns (id, player, expiration) VALUES (?, ?, ?) ON CONFLICT (id, player) DO UPDATE SET expiration = excluded.expiration";
+                    try (PreparedStatement statement = connection.prepareStatement(upsert)) {
+                        for (CooldownManager.Cooldown cooldown : changed) {
+                            statement.setString(1, cooldown.id());
+                            statement.setString(2, toPlayerColumn(cooldown.player()));
+                            statement.setLong(3, cooldown.expiration());
+                            statement.addBatch();
+                        }
+
+                        statement.executeBatch();
+                    }
+                }
 
-            if (cooldowns.isEmpty())
-                return;
+                if (!removed.isEmpty()) {
+                    try (PreparedStatement statement = connection.prepareStatement("DELETE FROM " + this.getTablePrefix() + "cooldowns WHERE id = ? AND player = ?")) {
+                        for (CooldownManager.Cooldown cooldown : removed) {
+                            statement.setString(1, cooldown.id());
+                            statement.setString(2, toPlayerColumn(cooldown.player()));
+                            statement.addBatch();
+                        }
 
-            try (PreparedStatement statement = connection.prepareStatement("INSERT INTO " + this.getTablePrefix() + "cooldowns (id, player, expiration) VALUES (?, ?, ?)")) {
-                for (CooldownManager.Cooldown cooldown : cooldowns) {
-                    statement.setString(1, cooldown.id());
-                    statement.setString(2, cooldown.player().toString());
-                    statement.setLong(3, cooldown.expiration());
-                    statement.addBatch();
+                        statement.executeBatch();
+                    }
                 }
 
-                statement.executeBatch();
+                try (PreparedStatement statement = connection.prepareStatement("DELETE FROM " + this.getTablePrefix() + "cooldowns WHERE expiration < ?")) {
+                    statement.setLong(1, expiredBefore);
+                    statement.executeUpdate();
+                }
+
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
             }
         });
     }
@@ -61,7 +104,7 @@ public class DataManager extends AbstractDataManager {
                 while (cooldowns.next()) {
                     cooldownList.add(new CooldownManager.Cooldown(
                             cooldowns.getString("id"),
-                            UUID.fromString(cooldowns.getString("player")),
+                            fromPlayerColumn(cooldowns.getString("player")),
                             cooldowns.getLong("expiration")
                     ));
                 }
@@ -70,4 +113,13 @@ public class DataManager extends AbstractDataManager {
         return cooldownList;
     }
 
+    // Global cooldowns are stored with an empty player
+    private static String toPlayerColumn(UUID player) {
+        return player == null ? "" : player.toString();
+    }
+
+    private static UUID fromPlayerColumn(String player) {
+        return player == null || player.isEmpty() ? null : UUID.fromString(player);
+    }
+
 }
@@ -0,0 +1,180 @@
+package dev.rosewood.roseloot.manager;
+
+import dev.rosewood.rosegarden.RosePlugin;
+import dev.rosewood.rosegarden.manager.Manager;
+import dev.rosewood.roseloot.manager.ConfigurationManager.Setting;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Item;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.Vector;
+
+/**
+ * Spawns dropped loot items, merging similar items dropped close to each other before spawning them.
+ * <br>
+ * Drops are held back until the next flush, which happens a configurable number of ticks after the first drop.
+ * Similar items dropped within the merge radius of each other by then are combined and spawned as the fewest
+ * item entities possible, instead of one entity for every stack that was generated.
+ */
+public class ItemDropManager extends Manager {
+
+    // Grid cell -> drops waiting to be spawned with their first location in that cell, cells are as large as the merge radius
+    private final Map<DropCell, List<PendingDrop>> pendingDrops;
+    private double radius;
+    private long flushDelay;
+    private BukkitTask flushTask;
+
+    public ItemDropManager(RosePlugin rosePlugin) {
+        super(rosePlugin);
+
+        this.pendingDrops = new HashMap<>();
+    }
+
+    /**
+     * Drops an item at a location with a random offset and velocity, like {@link World#dropItemNaturally(Location, ItemStack)}.
+     * Must be called on the main thread.
+     *
+     * @param location The location to drop the item at
+     * @param itemStack The item to drop
+     */
+    public void dropItemNaturally(Location location, ItemStack itemStack) {
+        this.drop(location, itemStack, null);
+    }
+
+    /**
+     * Drops an item at a location with a fixed velocity.
+     * Must be called on the main thread.
+     *
+     * @param location The location to drop the item at
+     * @param itemStack The item to drop
+     * @param velocity The velocity of the dropped item
+     */
+    public void dropItem(Location location, ItemStack itemStack, Vector velocity) {
+        this.drop(location, itemStack, velocity.clone());
+    }
+
+    private void drop(Location location, ItemStack itemStack, Vector velocity) {
+        World world = location.getWorld();
+        if (world == null || itemStack == null || itemStack.getType().isAir() || itemStack.getAmount() <= 0)
+            return;
+
+        if (this.radius <= 0) {
+            spawn(location, itemStack, velocity);
+            return;
+        }
+
+        // Similar drops can only be within the radius if they are in the same or a neighbouring cell
+        DropCell cell = DropCell.of(location, this.radius);
+        double radiusSquared = this.radius * this.radius;
+        for (int x = -1; x <= 1; x++) {
+            for (int y = -1; y <= 1; y++) {
+                for (int z = -1; z <= 1; z++) {
+                    List<PendingDrop> drops = this.pendingDrops.get(cell.offset(x, y, z));
+                    if (drops == null)
+                        continue;
+
+                    for (PendingDrop drop : drops) {
+                        if (drop.location.distanceSquared(location) <= radiusSquared && Objects.equals(drop.velocity, velocity) && drop.itemStack.isSimilar(itemStack)) {
+                            drop.amount += itemStack.getAmount();
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+
+        this.pendingDrops.computeIfAbsent(cell, x -> new ArrayList<>()).add(new PendingDrop(location.clone(), itemStack.clone(), velocity, itemStack.getAmount()));
+        if (this.flushTask == null)
+            this.flushTask = Bukkit.getScheduler().runTaskLater(this.rosePlugin, this::flush, this.flushDelay);
+    }
+
+    /**
+     * Spawns all drops that are waiting to be spawned
+     */
+    public void flush() {
+        if (this.flushTask != null) {
+            this.flushTask.cancel();
+            this.flushTask = null;
+        }
+
+        if (this.pendingDrops.isEmpty())
+            return;
+
+        List<List<PendingDrop>> pendingDrops = new ArrayList<>(this.pendingDrops.values());
+        this.pendingDrops.clear();
+        for (List<PendingDrop> drops : pendingDrops) {
+            for (PendingDrop drop : drops) {
+                int maxStackSize = Math.max(1, drop.itemStack.getMaxStackSize());
+                int amount = drop.amount;
+                while (amount > 0) {
+                    ItemStack itemStack = drop.itemStack.clone();
+                    itemStack.setAmount(Math.min(amount, maxStackSize));
+                    amount -= itemStack.getAmount();
+                    spawn(drop.location, itemStack, drop.velocity);
+                }
+            }
+        }
+    }
+
+    private static void spawn(Location location, ItemStack itemStack, Vector velocity) {
+        World world = location.getWorld();
+        if (world == null)
+            return;
+
+        if (velocity == null) {
+            world.dropItemNaturally(location, itemStack);
+        } else {
+            Item item = world.dropItem(location, itemStack);
+            item.setVelocity(velocity);
+        }
+    }
+
+    @Override
+    public void reload() {
+        this.radius = Math.max(0, Setting.DROP_MERGE_RADIUS.getDouble());
+        this.flushDelay = Math.max(0, Setting.DROP_MERGE_DELAY.getInt());
+    }
+
+    @Override
+    public void disable() {
+        // Don't lose any drops that were still waiting to be spawned
+        this.flush();
+    }
+
+    private record DropCell(UUID world, int x, int y, int z) {
+
+        public static DropCell of(Location location, double size) {
+            return new DropCell(location.getWorld().getUID(), (int) Math.floor(location.getX() / size), (int) Math.floor(location.getY() / size), (int) Math.floor(location.getZ() / size));
+        }
+
+        public DropCell offset(int x, int y, int z) {
+            return new DropCell(this.world, this.x + x, this.y + y, this.z + z);
+        }
+
+    }
+
+    private static class PendingDrop {
+
+        private final Location location;
+        private final ItemStack itemStack;
+        private final Vector velocity;
+        private int amount;
+
+        public PendingDrop(Location location, ItemStack itemStack, Vector velocity, int amount) {
+            this.location = location;
+            this.itemStack = itemStack;
+            this.velocity = velocity;
+            this.amount = amount;
+        }
+
+    }
+
+}
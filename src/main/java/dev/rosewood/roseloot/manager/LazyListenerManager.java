@@ -74,6 +74,13 @@ public class LazyListenerManager extends DelayedManager {
         this.lazyListeners.forEach(LazyListener::enable);
     }
 
+    /**
+     * Enables or disables listeners if the loot table types they handle started or stopped being used
+     */
+    public void refresh() {
+        this.lazyListeners.forEach(LazyListener::refresh);
+    }
+
     @Override
     public void disable() {
         this.lazyListeners.forEach(LazyListener::disable);
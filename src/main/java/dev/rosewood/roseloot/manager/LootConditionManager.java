@@ -50,9 +50,12 @@ import dev.rosewood.roseloot.loot.condition.tags.paper.BiomeKeyCondition;
 import dev.rosewood.roseloot.loot.condition.tags.paper.MoonPhaseCondition;
 import dev.rosewood.roseloot.loot.context.LootContext;
 import dev.rosewood.roseloot.loot.context.LootContextParams;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -76,11 +79,14 @@ public class LootConditionManager extends DelayedManager implements Listener {
 
     // Prefix -> (Tag -> new LootCondition instance)
     private final Map<String, Function<String, LootCondition>> registeredConditions;
+    // Tag -> shared deterministic LootCondition instance, lets identical tags share results memoized by a LootContext
+    private final Map<String, LootCondition> internedConditions;
 
     public LootConditionManager(RosePlugin rosePlugin) {
         super(rosePlugin);
 
         this.registeredConditions = new LinkedHashMap<>();
+        this.internedConditions = new ConcurrentHashMap<>();
         Bukkit.getPluginManager().registerEvents(this, rosePlugin);
     }
 
@@ -95,6 +101,7 @@ public class LootConditionManager extends DelayedManager implements Listener {
     @Override
     public void disable() {
         this.registeredConditions.clear();
+        this.internedConditions.clear();
     }
 
     @EventHandler(priority = EventPriority.LOWEST)
@@ -168,20 +175,32 @@ public class LootConditionManager extends DelayedManager implements Listener {
     }
 
     private void registerBoolean(LootConditionRegistrationEvent event, String name, Predicate<LootContext> predicate) {
-        event.registerLootCondition(name, tag -> new BooleanLootCondition(tag, predicate));
+        event.registerLootCondition(name, tag -> new BooleanLootCondition(tag, predicate, true));
     }
 
     private void registerStrings(LootConditionRegistrationEvent event, String name, BiPredicate<LootContext, List<String>> predicate) {
-        event.registerLootCondition(name, tag -> new StringLootCondition(tag, predicate));
+        event.registerLootCondition(name, tag -> new StringLootCondition(tag, predicate, true));
     }
 
     /**
-     * Parses a LootCondition tag into a registered LootCondition if one exists
+     * @return the prefixes of all registered LootConditions
+     */
+    public Set<String> getRegisteredConditionNames() {
+        return Collections.unmodifiableSet(this.registeredConditions.keySet());
+    }
+
+    /**
+     * Parses a LootCondition tag into a registered LootCondition if one exists.
+     * Deterministic conditions are shared between identical tags.
      *
      * @param tag The LootCondition tag to parse
      * @return the parsed LootCondition, or null if a tag with the name does not exist or the tag was malformed
      */
     public LootCondition parse(String tag) {
+        LootCondition interned = this.internedConditions.get(tag);
+        if (interned != null)
+            return interned;
+
         int index = tag.indexOf(":");
         String tagPrefix = index == -1 ? tag : tag.substring(0, index);
 
@@ -190,7 +209,12 @@ public class LootConditionManager extends DelayedManager implements Listener {
             return null;
 
         try {
-            return factory.apply(tag);
+            LootCondition condition = factory.apply(tag);
+            if (condition == null || !condition.isDeterministic())
+                return condition;
+
+            LootCondition existing = this.internedConditions.putIfAbsent(tag, condition);
+            return existing != null ? existing : condition;
         } catch (IllegalArgumentException e) {
             RoseLoot.getInstance().getLogger().warning("Failed to parse condition [" + tag + "] due to invalid values: " + e.getMessage());
         }
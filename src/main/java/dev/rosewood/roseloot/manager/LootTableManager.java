@@ -4,6 +4,7 @@ import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 import com.google.common.collect.Multimap;
+import com.google.common.hash.Hashing;
 import dev.rosewood.rosegarden.RosePlugin;
 import dev.rosewood.rosegarden.config.CommentedFileConfiguration;
 import dev.rosewood.roseloot.RoseLoot;
@@ -11,14 +12,20 @@ import dev.rosewood.roseloot.event.LootItemTypeRegistrationEvent;
 import dev.rosewood.roseloot.event.LootTableTypeRegistrationEvent;
 import dev.rosewood.roseloot.event.PostLootGenerateEvent;
 import dev.rosewood.roseloot.hook.MMOCoreHook;
+import dev.rosewood.roseloot.loot.BatchLootResult;
 import dev.rosewood.roseloot.loot.LootComponent;
 import dev.rosewood.roseloot.loot.LootContents;
+import dev.rosewood.roseloot.loot.LootProfiler;
+import dev.rosewood.roseloot.loot.LootTracer;
 import dev.rosewood.roseloot.loot.LootResult;
 import dev.rosewood.roseloot.loot.LootTable;
+import dev.rosewood.roseloot.loot.LootTableIndex;
 import dev.rosewood.roseloot.loot.OverwriteExisting;
+import dev.rosewood.roseloot.loot.PreparedLoot;
 import dev.rosewood.roseloot.loot.condition.LootCondition;
 import dev.rosewood.roseloot.loot.condition.LootConditionParser;
 import dev.rosewood.roseloot.loot.context.LootContext;
+import dev.rosewood.roseloot.loot.context.LootContextParams;
 import dev.rosewood.roseloot.loot.item.ChangeToolDurabilityLootItem;
 import dev.rosewood.roseloot.loot.item.CommandLootItem;
 import dev.rosewood.roseloot.loot.item.ContainerContentsLootItem;
@@ -44,40 +51,85 @@ import dev.rosewood.roseloot.loot.table.LootTableType;
 import dev.rosewood.roseloot.loot.table.LootTableTypes;
 import dev.rosewood.roseloot.manager.ConfigurationManager.Setting;
 import dev.rosewood.roseloot.provider.NumberProvider;
+import dev.rosewood.roseloot.util.ConfigurationCache;
+import dev.rosewood.roseloot.util.DirectoryWatcher;
 import dev.rosewood.roseloot.util.LootUtils;
 import dev.rosewood.roseloot.util.VanillaLootTableConverter;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.Plugin;
 
 public class LootTableManager extends DelayedManager implements Listener {
 
+    private static final List<String> EXCLUDED_DIRECTORIES = List.of("examples", "disabled");
     private static final List<String> RESERVED_COMPONENT_KEYS = List.of("type", "conditions", "rolls", "bonus-rolls", "weight", "quality", "children-strategy", "items");
 
     private final BiMap<String, LootTableType> lootTableTypes;
     private final Multimap<LootTableType, LootTable> lootTables;
+    private final Map<LootTableType, LootTableIndex> lootTableIndexes;
+    // World UID -> the LootTables that can pass in that world, resolved the first time they are needed after a reload
+    private final Map<UUID, WorldLootTables> worldLootTables;
+    private Set<String> disabledWorlds;
     private final Map<String, Function<ConfigurationSection, LootItem>> registeredLootItemFunctions;
     private final File directory;
+    private final Map<File, LootTableFile> loadedFiles;
+    private final ConfigurationCache configurationCache;
+    private boolean configurationCacheLoaded;
+    private String loadedRegistrations;
+    private int loadGeneration;
+    private ExecutorService workerPool;
+    private DirectoryWatcher directoryWatcher;
 
     public LootTableManager(RosePlugin rosePlugin) {
         super(rosePlugin);
 
         this.lootTableTypes = HashBiMap.create();
         this.lootTables = ArrayListMultimap.create();
+        this.lootTableIndexes = new HashMap<>();
+        this.worldLootTables = new ConcurrentHashMap<>();
+        this.disabledWorlds = Set.of();
         this.registeredLootItemFunctions = new HashMap<>();
         this.directory = new File(this.rosePlugin.getDataFolder(), "loottables");
+        this.loadedFiles = new HashMap<>();
+        this.configurationCache = new ConfigurationCache(new File(this.rosePlugin.getDataFolder(), "cache/loottables.bin"), this.rosePlugin.getDescription().getVersion(), this.rosePlugin.getLogger());
 
         Bukkit.getPluginManager().registerEvents(this, rosePlugin);
     }
@@ -105,24 +157,329 @@ public class LootTableManager extends DelayedManager implements Listener {
 
         VanillaLootTableConverter.convertVanilla(examplesDirectory);
 
-        List<File> files = LootUtils.listFiles(this.directory, List.of("examples", "disabled"), List.of("yml"));
+        // Sort the files so loot tables are always registered in the same order, regardless of the file system
+        List<File> files = new ArrayList<>(LootUtils.listFiles(this.directory, EXCLUDED_DIRECTORIES, List.of("yml")));
+        files.sort(Comparator.comparing(File::getPath));
+
+        // The cache only needs to be read once, afterwards it is kept up to date in memory
+        boolean cacheLootTableFiles = Setting.CACHE_LOOT_TABLE_FILES.getBoolean();
+        if (cacheLootTableFiles && !this.configurationCacheLoaded) {
+            this.configurationCache.load();
+            this.configurationCacheLoaded = true;
+        }
+
+        this.loadGeneration++;
+        List<LootTableFile> lootTableFiles = this.loadFiles(files);
+
+        int unchanged = 0;
+        this.loadedFiles.clear();
+        for (LootTableFile lootTableFile : lootTableFiles) {
+            if (lootTableFile.generation != this.loadGeneration)
+                unchanged++;
+
+            lootTableFile.warnings.forEach(this.rosePlugin.getLogger()::warning);
+            if (lootTableFile.lootTable != null)
+                this.lootTables.put(lootTableFile.lootTable.getType(), lootTableFile.lootTable);
+            this.loadedFiles.put(lootTableFile.file, lootTableFile);
+        }
+
+        this.rebuildIndexes();
+
+        if (cacheLootTableFiles) {
+            this.configurationCache.retain(lootTableFiles.stream().map(x -> x.hash).filter(Objects::nonNull).collect(Collectors.toSet()));
+            Bukkit.getScheduler().runTaskAsynchronously(this.rosePlugin, this.configurationCache::save);
+        }
+
+        if (Setting.ASYNC_LOOT_GENERATION.getBoolean())
+            this.workerPool = this.createWorkerPool();
+
+        LootTracer.configure(Setting.TRACE_SLOW_LOOT_GENERATION.getBoolean(), Setting.TRACE_SLOW_LOOT_GENERATION_THRESHOLD.getInt(), Setting.TRACE_SLOW_LOOT_GENERATION_BUFFER_SIZE.getInt());
+
+        if (Setting.WATCH_LOOT_TABLE_FILES.getBoolean())
+            this.startWatching();
+
+        if (unchanged > 0) {
+            RoseLoot.getInstance().getLogger().info("Loaded " + this.lootTables.values().size() + " loot tables, " + unchanged + " files were unchanged since the last reload.");
+        } else {
+            RoseLoot.getInstance().getLogger().info("Loaded " + this.lootTables.values().size() + " loot tables.");
+        }
+    }
+
+    /**
+     * Loads the given loot table files, in parallel if enabled.
+     * Files that are unchanged since the last reload reuse the LootTable that was loaded from them back then.
+     *
+     * @param files The files to load
+     * @return the loaded files, in the same order as they were given
+     */
+    private List<LootTableFile> loadFiles(List<File> files) {
+        // Loot tables loaded before may be using loot items or conditions that don't exist anymore, or are missing new ones
+        String registrations = this.describeRegistrations();
+        if (!Setting.INCREMENTAL_LOOT_TABLE_LOADING.getBoolean() || !registrations.equals(this.loadedRegistrations))
+            this.loadedFiles.clear();
+        this.loadedRegistrations = registrations;
+
+        if (!Setting.PARALLEL_LOOT_TABLE_LOADING.getBoolean() || files.size() < 2)
+            return files.stream().map(this::loadFile).toList();
+
+        ForkJoinPool pool = new ForkJoinPool(Math.min(files.size(), Runtime.getRuntime().availableProcessors()), forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("RoseLoot Loot Table Loader #" + thread.getPoolIndex());
+            thread.setContextClassLoader(RoseLoot.class.getClassLoader());
+            return thread;
+        }, null, false);
+
+        try {
+            // Parallel streams run on the pool they are started from, and toList() keeps the original order
+            return pool.submit(() -> files.parallelStream().map(this::loadFile).toList()).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * @return a description of everything registered that may affect how loot table files are loaded
+     */
+    private String describeRegistrations() {
+        StringBuilder stringBuilder = new StringBuilder();
+        new TreeSet<>(this.lootTableTypes.keySet()).forEach(x -> stringBuilder.append(x).append(','));
+        stringBuilder.append('|');
+        new TreeSet<>(this.registeredLootItemFunctions.keySet()).forEach(x -> stringBuilder.append(x).append(','));
+        stringBuilder.append('|');
+        new TreeSet<>(this.rosePlugin.getManager(LootConditionManager.class).getRegisteredConditionNames()).forEach(x -> stringBuilder.append(x).append(','));
+        stringBuilder.append('|');
+        Arrays.stream(Bukkit.getPluginManager().getPlugins())
+                .filter(Plugin::isEnabled)
+                .map(x -> x.getName() + ":" + x.getDescription().getVersion())
+                .sorted()
+                .forEach(x -> stringBuilder.append(x).append(','));
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Loads a loot table file, or reuses the one loaded during the last reload if the file is unchanged
+     *
+     * @param file The file to load
+     * @return the loaded file
+     */
+    private LootTableFile loadFile(File file) {
+        LootTableFile previous = this.loadedFiles.get(file);
+        long size = file.length();
+        long lastModified = file.lastModified();
+        if (previous != null && previous.size == size && previous.lastModified == lastModified)
+            return previous;
+
+        String hash;
+        try {
+            hash = Hashing.sha256().hashBytes(Files.readAllBytes(file.toPath())).toString();
+        } catch (IOException e) {
+            LootTableFile lootTableFile = new LootTableFile(file, size, lastModified, null, this.loadGeneration);
+            this.failToLoad(lootTableFile, e.getMessage());
+            return lootTableFile;
+        }
+
+        // Only the timestamp changed, the file was saved without any changes
+        if (previous != null && hash.equals(previous.hash))
+            return new LootTableFile(previous, size, lastModified);
+
+        LootTableFile lootTableFile = new LootTableFile(file, size, lastModified, hash, this.loadGeneration);
+        try {
+            lootTableFile.lootTable = this.loadLootTable(lootTableFile);
+        } catch (Exception e) {
+            this.failToLoad(lootTableFile, e.getMessage());
+        }
+        return lootTableFile;
+    }
+
+    private void startWatching() {
+        this.directoryWatcher = new DirectoryWatcher(this.directory, EXCLUDED_DIRECTORIES, Math.max(0, Setting.WATCH_LOOT_TABLE_FILES_DELAY.getInt()), changed -> {
+            if (this.rosePlugin.isEnabled())
+                Bukkit.getScheduler().runTask(this.rosePlugin, () -> this.reloadFiles(changed));
+        }, this.rosePlugin.getLogger());
+
+        try {
+            this.directoryWatcher.start();
+        } catch (IOException e) {
+            this.rosePlugin.getLogger().log(Level.WARNING, "Failed to watch the loottables directory for changes", e);
+            this.directoryWatcher = null;
+        }
+    }
+
+    /**
+     * Loads changed loot table files again without touching any of the others.
+     * Files and directories that no longer exist have their loot tables unloaded.
+     *
+     * @param changed The changed files and directories
+     */
+    private void reloadFiles(Set<File> changed) {
+        if (this.directoryWatcher == null)
+            return; // Stopped watching while the changes were waiting to be handled
+
+        this.loadGeneration++;
+        Set<LootTableType> changedTypes = new HashSet<>();
+        List<File> files = new ArrayList<>();
+        for (File file : changed) {
+            if (file.isDirectory()) {
+                files.addAll(LootUtils.listFiles(file, EXCLUDED_DIRECTORIES, List.of("yml")));
+            } else if (file.isFile()) {
+                if (file.getName().endsWith("yml"))
+                    files.add(file);
+            } else {
+                Path removed = file.toPath();
+                this.loadedFiles.values().removeIf(x -> {
+                    if (!x.file.toPath().startsWith(removed))
+                        return false;
+
+                    if (x.lootTable != null) {
+                        changedTypes.add(x.lootTable.getType());
+                        this.rosePlugin.getLogger().info("Unloaded loot table " + x.lootTable.getName() + ".");
+                    }
+                    return true;
+                });
+            }
+        }
+
+        files.sort(Comparator.comparing(File::getPath));
         for (File file : files) {
-            try {
-                this.loadFile(file);
-            } catch (Exception e) {
-                this.failToLoad(file, e.getMessage());
+            LootTableFile previous = this.loadedFiles.get(file);
+            LootTableFile lootTableFile = this.loadFile(file);
+            this.loadedFiles.put(file, lootTableFile);
+            if (lootTableFile.generation != this.loadGeneration)
+                continue; // Unchanged
+
+            if (previous != null && previous.lootTable != null)
+                changedTypes.add(previous.lootTable.getType());
+
+            lootTableFile.warnings.forEach(this.rosePlugin.getLogger()::warning);
+            if (lootTableFile.lootTable != null) {
+                changedTypes.add(lootTableFile.lootTable.getType());
+                this.rosePlugin.getLogger().info("Loaded loot table " + lootTableFile.lootTable.getName() + ".");
             }
         }
 
-        RoseLoot.getInstance().getLogger().info("Loaded " + this.lootTables.values().size() + " loot tables.");
+        if (changedTypes.isEmpty())
+            return;
+
+        // Swap in the new loot tables for each changed type, keeping the same order as a full reload would
+        List<LootTableFile> lootTableFiles = this.loadedFiles.values().stream()
+                .filter(x -> x.lootTable != null && changedTypes.contains(x.lootTable.getType()))
+                .sorted(Comparator.comparing(x -> x.file.getPath()))
+                .toList();
+        for (LootTableType lootTableType : changedTypes) {
+            this.lootTables.removeAll(lootTableType);
+            lootTableFiles.stream()
+                    .filter(x -> x.lootTable.getType() == lootTableType)
+                    .forEach(x -> this.lootTables.put(lootTableType, x.lootTable));
+
+            if (this.lootTables.containsKey(lootTableType)) {
+                this.lootTableIndexes.put(lootTableType, new LootTableIndex(this.lootTables.get(lootTableType)));
+            } else {
+                this.lootTableIndexes.remove(lootTableType);
+            }
+        }
+
+        this.worldLootTables.clear();
+
+        this.rosePlugin.getManager(LazyListenerManager.class).refresh();
+    }
+
+    private ExecutorService createWorkerPool() {
+        AtomicInteger threadId = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, Setting.ASYNC_LOOT_GENERATION_THREADS.getInt()), runnable -> {
+            Thread thread = new Thread(runnable, "RoseLoot Loot Worker #" + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Rebuilds the condition indexes used to narrow down the LootTables checked in {@link #getLoot(LootTableType, LootContext)}
+     */
+    private void rebuildIndexes() {
+        this.lootTableIndexes.clear();
+        for (LootTableType lootTableType : this.lootTables.keySet())
+            this.lootTableIndexes.put(lootTableType, new LootTableIndex(this.lootTables.get(lootTableType)));
+
+        this.disabledWorlds = Setting.DISABLED_WORLDS.getStringList().stream().map(String::toLowerCase).collect(Collectors.toSet());
+        this.worldLootTables.clear();
+        Bukkit.getWorlds().forEach(this::getWorldLootTables);
     }
 
-    private void loadFile(File file) {
-        ConfigurationSection configuration = CommentedFileConfiguration.loadConfiguration(file);
+    /**
+     * Gets the index of LootTables to check for a LootContext, narrowed down to the LootTables that can pass in the
+     * world of the LootContext's origin
+     *
+     * @param lootTableType The LootTableType of the LootTables
+     * @param lootContext The LootContext
+     * @return the index, or null if there are no LootTables to check
+     */
+    private LootTableIndex getLootTableIndex(LootTableType lootTableType, LootContext lootContext) {
+        World world = lootContext.get(LootContextParams.ORIGIN).map(Location::getWorld).orElse(null);
+        if (world == null)
+            return this.lootTableIndexes.get(lootTableType);
+        return this.getWorldLootTables(world).lootTableIndexes().get(lootTableType);
+    }
+
+    private WorldLootTables getWorldLootTables(World world) {
+        return this.worldLootTables.computeIfAbsent(world.getUID(), x -> {
+            Map<LootTableType, LootTableIndex> lootTableIndexes = new HashMap<>();
+            for (Map.Entry<LootTableType, LootTableIndex> entry : this.lootTableIndexes.entrySet()) {
+                LootTableIndex lootTableIndex = entry.getValue().forWorld(world);
+                if (lootTableIndex != null)
+                    lootTableIndexes.put(entry.getKey(), lootTableIndex);
+            }
+            return new WorldLootTables(this.disabledWorlds.contains(world.getName().toLowerCase()), lootTableIndexes);
+        });
+    }
+
+    /**
+     * Checks if the plugin is disabled in a world through the disabled-worlds setting
+     *
+     * @param world The world to check
+     * @return true if the plugin is disabled in the world
+     */
+    public boolean isWorldDisabled(World world) {
+        return this.getWorldLootTables(world).disabled();
+    }
+
+    /**
+     * Checks if any loot can be generated for a LootTableType in a world, use this to skip building a LootContext
+     * for events that can never generate anything
+     *
+     * @param lootTableType The LootTableType to check
+     * @param world The world to check
+     * @return true if the plugin is enabled in the world and it has LootTables of the LootTableType that can pass there
+     */
+    public boolean canGenerateLoot(LootTableType lootTableType, World world) {
+        WorldLootTables worldLootTables = this.getWorldLootTables(world);
+        return !worldLootTables.disabled() && worldLootTables.lootTableIndexes().containsKey(lootTableType);
+    }
+
+    /**
+     * Reads the configuration of a loot table file, from the cache if the file was cached before
+     *
+     * @param file The loot table file
+     * @return the configuration of the loot table file
+     */
+    private ConfigurationSection loadConfiguration(LootTableFile file) {
+        if (!Setting.CACHE_LOOT_TABLE_FILES.getBoolean())
+            return CommentedFileConfiguration.loadConfiguration(file.file);
+
+        ConfigurationSection configuration = this.configurationCache.get(file.hash);
+        if (configuration != null)
+            return configuration;
+
+        configuration = CommentedFileConfiguration.loadConfiguration(file.file);
+        this.configurationCache.put(file.hash, configuration);
+        return configuration;
+    }
+
+    private LootTable loadLootTable(LootTableFile file) {
+        ConfigurationSection configuration = this.loadConfiguration(file);
         LootTableType type = this.getLootTableType(configuration.getString("type"));
         if (type == null) {
             this.failToLoad(file, "Invalid type");
-            return;
+            return null;
         }
 
         Set<OverwriteExisting> overwriteExisting;
@@ -144,16 +501,18 @@ public class LootTableManager extends DelayedManager implements Listener {
         ConfigurationSection rootComponentSection = this.findNextComponentsSection(file, configuration);
         if (rootComponentSection == null) {
             this.failToLoad(file, "No root component section");
-            return;
+            return null;
         }
 
         List<LootComponent> lootComponents = this.getLootComponentsRecursively(file, rootComponentSection, rootComponentSection.getCurrentPath());
-        String name = this.getLootTablePath(file);
+        String name = this.getLootTablePath(file.file);
+
+        Boolean snapshotSafe = configuration.isBoolean("snapshot-safe") ? configuration.getBoolean("snapshot-safe") : null;
 
-        this.lootTables.put(type, new LootTable(name, type, conditions, lootComponents, overwriteExisting, allowRecursion));
+        return new LootTable(name, type, conditions, lootComponents, overwriteExisting, allowRecursion, snapshotSafe);
     }
 
-    private List<LootCondition> parseConditionsSection(File file, ConfigurationSection section) {
+    private List<LootCondition> parseConditionsSection(LootTableFile file, ConfigurationSection section) {
         List<LootCondition> conditions = new ArrayList<>();
         List<String> conditionStrings = section.getStringList("conditions");
         for (String conditionString : conditionStrings) {
@@ -186,7 +545,7 @@ public class LootTableManager extends DelayedManager implements Listener {
         return stringBuilder.toString();
     }
 
-    private ConfigurationSection findNextComponentsSection(File file, ConfigurationSection section) {
+    private ConfigurationSection findNextComponentsSection(LootTableFile file, ConfigurationSection section) {
         ConfigurationSection foundSection = null;
         for (String key : section.getKeys(false)) {
             if (RESERVED_COMPONENT_KEYS.contains(key))
@@ -206,7 +565,7 @@ public class LootTableManager extends DelayedManager implements Listener {
         return foundSection;
     }
 
-    private List<LootComponent> getLootComponentsRecursively(File file, ConfigurationSection componentsSection, String parents) {
+    private List<LootComponent> getLootComponentsRecursively(LootTableFile file, ConfigurationSection componentsSection, String parents) {
         List<LootComponent> lootComponents = new ArrayList<>();
         for (String entryKey : componentsSection.getKeys(false)) {
             ConfigurationSection componentSection = componentsSection.getConfigurationSection(entryKey);
@@ -258,7 +617,7 @@ public class LootTableManager extends DelayedManager implements Listener {
             ConfigurationSection childrenSection = this.findNextComponentsSection(file, componentSection);
             List<LootComponent> childEntries = childrenSection != null ? this.getLootComponentsRecursively(file, childrenSection, parents) : null;
 
-            lootComponents.add(new LootComponent(entryConditions, rolls, bonusRolls, weight, quality, lootItems, childrenStrategy, childEntries));
+            lootComponents.add(new LootComponent(this.getLootTablePath(file.file) + ":" + componentSection.getCurrentPath(), entryConditions, rolls, bonusRolls, weight, quality, lootItems, childrenStrategy, childEntries));
         }
 
         return lootComponents;
@@ -266,10 +625,29 @@ public class LootTableManager extends DelayedManager implements Listener {
 
     @Override
     public void disable() {
+        if (this.directoryWatcher != null) {
+            this.directoryWatcher.stop();
+            this.directoryWatcher = null;
+        }
+
+        if (this.workerPool != null) {
+            this.workerPool.shutdown();
+            this.workerPool = null;
+        }
+
+        LootTracer.configure(false, 0, 0);
+
         this.lootTables.clear();
+        this.lootTableIndexes.clear();
+        this.worldLootTables.clear();
         this.registeredLootItemFunctions.clear();
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        this.worldLootTables.remove(event.getWorld().getUID());
+    }
+
     @EventHandler(priority = EventPriority.LOWEST)
     public void onLootTableTypeRegistration(LootTableTypeRegistrationEvent event) {
         LootTableTypes.values().forEach(event::registerLootTableType);
@@ -309,9 +687,42 @@ public class LootTableManager extends DelayedManager implements Listener {
      * @return A LootResult containing all generated loot
      */
     public LootResult getLoot(LootTableType lootTableType, LootContext lootContext) {
+        if (!LootProfiler.isInstrumented())
+            return this.generateLoot(lootTableType, lootContext);
+        return this.instrument(lootTableType, () -> this.generateLoot(lootTableType, lootContext));
+    }
+
+    /**
+     * Generates loot while recording it with the {@link LootProfiler} and {@link LootTracer}
+     *
+     * @param lootTableType The LootTableType the loot is generated for
+     * @param generator Generates the loot
+     * @return the LootResult from the generator
+     */
+    private <T extends LootResult> T instrument(LootTableType lootTableType, Supplier<T> generator) {
+        String name = this.getLootTableTypeName(lootTableType);
+        boolean tracing = LootTracer.begin(name);
+        long startNanos = System.nanoTime();
+        long startAllocatedBytes = LootProfiler.getAllocatedBytes();
+        T lootResult = null;
+        try {
+            lootResult = generator.get();
+            LootProfiler.record(LootProfiler.Category.LOOT_TABLE_TYPE, name, !lootResult.getLootContents().getContents().isEmpty(), startNanos, startAllocatedBytes);
+        } finally {
+            if (tracing)
+                LootTracer.end(lootResult != null ? lootResult.getLootContents() : null);
+        }
+        return lootResult;
+    }
+
+    private LootResult generateLoot(LootTableType lootTableType, LootContext lootContext) {
         LootContents lootContents = new LootContents(lootContext);
         Set<OverwriteExisting> overwriteExisting = OverwriteExisting.none();
-        for (LootTable lootTable : this.lootTables.get(lootTableType)) {
+        LootTableIndex lootTableIndex = this.getLootTableIndex(lootTableType, lootContext);
+        if (lootTableIndex == null)
+            return this.callEvent(new LootResult(lootContext, lootContents, overwriteExisting));
+
+        for (LootTable lootTable : lootTableIndex.getCandidates(lootContext)) {
             if (!lootTable.check(lootContext))
                 continue;
 
@@ -322,6 +733,207 @@ public class LootTableManager extends DelayedManager implements Listener {
         return this.callEvent(new LootResult(lootContext, lootContents, overwriteExisting));
     }
 
+    /**
+     * Generates loot from all LootTables with the given LootTableType for many runs with the same LootContext at once.
+     * The result follows the same distribution as calling {@link #getLoot(LootTableType, LootContext)} for each run,
+     * but conditions with a known pass chance and weighted children are rolled in aggregate instead of once per run,
+     * and LootItems are generated once for all the runs that picked them. Conditions without a known pass chance are
+     * still checked for each run.
+     * <br>
+     * Only values in the LootContext are taken into account, so every run should share the same looter, entity type,
+     * world and so on. Use {@link LootTable#isSnapshotSafe()} to check if a LootTable only depends on those.
+     *
+     * @param lootTableType The LootTableType of the LootTables to run
+     * @param contextTemplate The LootContext to use for every run
+     * @param runs The number of runs
+     * @return A BatchLootResult containing all generated loot
+     */
+    public BatchLootResult getLootBatch(LootTableType lootTableType, LootContext contextTemplate, int runs) {
+        if (!LootProfiler.isInstrumented())
+            return this.generateLootBatch(lootTableType, contextTemplate, runs);
+        return this.instrument(lootTableType, () -> this.generateLootBatch(lootTableType, contextTemplate, runs));
+    }
+
+    private BatchLootResult generateLootBatch(LootTableType lootTableType, LootContext contextTemplate, int runs) {
+        LootContents lootContents = new LootContents(contextTemplate);
+        Map<OverwriteExisting, BitSet> overwriteExistingRuns = new EnumMap<>(OverwriteExisting.class);
+        LootTableIndex lootTableIndex = this.getLootTableIndex(lootTableType, contextTemplate);
+        if (lootTableIndex != null) {
+            for (LootTable lootTable : lootTableIndex.getCandidates(contextTemplate)) {
+                Set<OverwriteExisting> lootTableOverwriteExisting = lootTable.getOverwriteExistingValues();
+                int passed = lootTable.checkBatch(contextTemplate, runs);
+                if (!lootTableOverwriteExisting.isEmpty() && passed > 0) {
+                    // Every run is the same, so which runs passed is a uniformly random subset of the passed size
+                    BitSet passedRuns = pickRuns(runs, passed);
+                    for (OverwriteExisting overwriteExisting : lootTableOverwriteExisting)
+                        overwriteExistingRuns.computeIfAbsent(overwriteExisting, x -> new BitSet(runs)).or(passedRuns);
+                }
+
+                lootTable.populateBatch(contextTemplate, lootContents, passed);
+            }
+        }
+
+        // Values overwritten for every run apply to the whole result
+        Set<OverwriteExisting> overwriteExisting = OverwriteExisting.none();
+        overwriteExistingRuns.forEach((key, value) -> {
+            if (value.cardinality() == runs)
+                overwriteExisting.add(key);
+        });
+
+        BatchLootResult lootResult = new BatchLootResult(contextTemplate, lootContents, overwriteExisting, runs, overwriteExistingRuns);
+        if (this.callEvent(lootResult) != lootResult)
+            return new BatchLootResult(contextTemplate, new LootContents(contextTemplate), OverwriteExisting.none(), runs, Map.of());
+        return lootResult;
+    }
+
+    /**
+     * Picks a uniformly random subset of runs using Floyd's algorithm, only taking as many steps as runs picked
+     *
+     * @param runs The total number of runs
+     * @param amount The number of runs to pick
+     * @return the picked runs
+     */
+    private static BitSet pickRuns(int runs, int amount) {
+        BitSet picked = new BitSet(runs);
+        if (amount >= runs) {
+            picked.set(0, runs);
+            return picked;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = runs - amount; i < runs; i++) {
+            int run = random.nextInt(i + 1);
+            picked.set(picked.get(run) ? i : run);
+        }
+        return picked;
+    }
+
+    /**
+     * Checks if the loot from all LootTables with the given LootTableType only depends on values captured by a
+     * {@link LootContext#snapshot()}, meaning it can be batched for runs that share those values.
+     *
+     * @param lootTableType The LootTableType of the LootTables to check
+     * @param contextTemplate The LootContext that would be used for every run
+     * @return true if {@link #getLootBatch(LootTableType, LootContext, int)} is equivalent to separate runs
+     */
+    public boolean canBatch(LootTableType lootTableType, LootContext contextTemplate) {
+        LootTableIndex lootTableIndex = this.getLootTableIndex(lootTableType, contextTemplate);
+        if (lootTableIndex == null)
+            return true;
+
+        for (LootTable lootTable : lootTableIndex.getCandidates(contextTemplate)) {
+            if (!lootTable.isSnapshotSafe() || !lootTable.isBatchable())
+                return false;
+
+            for (LootCondition condition : lootTable.getConditions())
+                if (!condition.isSnapshotSafe())
+                    return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks the conditions of all LootTables with the given LootTableType without populating any of them.
+     * Unlike {@link #getLoot(LootTableType, LootContext)}, every LootTable is checked before any are populated.
+     * Must be called on the main thread.
+     *
+     * @param lootTableType The LootTableType of the LootTables to check
+     * @param lootContext The LootContext to check the LootTables with
+     * @return A PreparedLoot containing the LootTables that passed their conditions
+     */
+    public PreparedLoot prepareLoot(LootTableType lootTableType, LootContext lootContext) {
+        Set<OverwriteExisting> overwriteExisting = OverwriteExisting.none();
+        LootTableIndex lootTableIndex = this.getLootTableIndex(lootTableType, lootContext);
+        if (lootTableIndex == null)
+            return new PreparedLoot(lootTableType, lootContext, List.of(), overwriteExisting);
+
+        List<LootTable> lootTables = new ArrayList<>();
+        for (LootTable lootTable : lootTableIndex.getCandidates(lootContext)) {
+            if (!lootTable.check(lootContext))
+                continue;
+
+            lootTables.add(lootTable);
+            overwriteExisting.addAll(lootTable.getOverwriteExistingValues());
+        }
+
+        return new PreparedLoot(lootTableType, lootContext, lootTables, overwriteExisting);
+    }
+
+    /**
+     * Populates the LootTables of a PreparedLoot on the current thread
+     *
+     * @param preparedLoot The PreparedLoot to populate
+     * @return A LootResult containing all generated loot
+     */
+    public LootResult populateLoot(PreparedLoot preparedLoot) {
+        if (!LootProfiler.isInstrumented())
+            return this.callEvent(this.generateLoot(preparedLoot));
+        return this.callEvent(this.instrument(preparedLoot.getLootTableType(), () -> this.generateLoot(preparedLoot)));
+    }
+
+    private LootResult generateLoot(PreparedLoot preparedLoot) {
+        LootContext lootContext = preparedLoot.getLootContext();
+        LootContents lootContents = new LootContents(lootContext);
+        for (LootTable lootTable : preparedLoot.getLootTables())
+            lootTable.populate(lootContext, lootContents);
+        return new LootResult(lootContext, lootContents, preparedLoot.getOverwriteExistingValues());
+    }
+
+    /**
+     * Loot should only be prepared with {@link #prepareLoot(LootTableType, LootContext)} when this is true, otherwise
+     * {@link #getLoot(LootTableType, LootContext)} keeps checking and populating each LootTable in turn.
+     *
+     * @return true if async-loot-generation is enabled
+     */
+    public boolean isAsyncLootGenerationEnabled() {
+        return this.workerPool != null;
+    }
+
+    /**
+     * @param preparedLoot The PreparedLoot to check
+     * @return true if {@link #populateLootAsync(PreparedLoot, Consumer)} will populate the PreparedLoot off the main thread
+     */
+    public boolean canPopulateAsync(PreparedLoot preparedLoot) {
+        return this.workerPool != null && !preparedLoot.isEmpty() && preparedLoot.isSnapshotSafe();
+    }
+
+    /**
+     * Populates the LootTables of a PreparedLoot off the main thread if they are all snapshot safe.
+     * The LootContext is snapshotted on the main thread first if it hasn't been already, then the LootTables are populated and the items are
+     * created on a worker thread, and finally the callback is run back on the main thread on the next tick.
+     * If populating fails on the worker thread, the PreparedLoot is populated again on the main thread before running the callback.
+     * If the PreparedLoot can't be populated off the main thread, it is populated and the callback is run right away.
+     * <br>
+     * Any changes to the overwrite-existing values made by a PostLootGenerateEvent can't be applied to loot populated
+     * off the main thread, callers should act on {@link PreparedLoot#getOverwriteExistingValues()} instead.
+     *
+     * @param preparedLoot The PreparedLoot to populate
+     * @param callback Called on the main thread with the LootResult containing all generated loot
+     */
+    public void populateLootAsync(PreparedLoot preparedLoot, Consumer<LootResult> callback) {
+        if (!this.canPopulateAsync(preparedLoot)) {
+            callback.accept(this.populateLoot(preparedLoot));
+            return;
+        }
+
+        LootContext lootContext = preparedLoot.getLootContext();
+        lootContext.snapshot();
+
+        CompletableFuture.supplyAsync(() -> {
+            LootResult lootResult = LootProfiler.isInstrumented() ? this.instrument(preparedLoot.getLootTableType(), () -> this.generateLoot(preparedLoot)) : this.generateLoot(preparedLoot);
+            lootResult.getLootContents().pregenerate();
+            return lootResult;
+        }, this.workerPool).whenComplete((lootResult, throwable) -> {
+            if (throwable != null)
+                RoseLoot.getInstance().getLogger().log(Level.WARNING, "Failed to generate loot off the main thread, generating it on the main thread instead", throwable);
+
+            // Callers may have already cleared the existing loot, so the callback must always run
+            if (this.rosePlugin.isEnabled())
+                Bukkit.getScheduler().runTask(this.rosePlugin, () -> callback.accept(throwable == null ? this.callEvent(lootResult) : this.populateLoot(preparedLoot)));
+        });
+    }
+
     /**
      * Generates loot from a LootTable with the given LootContext.
      *
@@ -405,16 +1017,60 @@ public class LootTableManager extends DelayedManager implements Listener {
         return lootTableTypes.stream().anyMatch(x -> !this.lootTables.get(x).isEmpty());
     }
 
-    private void issueLoading(File file, String reason) {
-        this.rosePlugin.getLogger().warning("Skipped loading part of loottables/" + file.getName() + ": " + reason);
+    /**
+     * @return a number that changes every time the loot tables are reloaded
+     */
+    public int getLoadGeneration() {
+        return this.loadGeneration;
+    }
+
+    private void issueLoading(LootTableFile file, String reason) {
+        file.warnings.add("Skipped loading part of loottables/" + file.file.getName() + ": " + reason);
     }
 
-    private void failToLoad(File file, String reason) {
+    private void failToLoad(LootTableFile file, String reason) {
         if (reason != null) {
-            this.rosePlugin.getLogger().warning("Failed to load loottables/" + file.getName() + ": " + reason);
+            file.warnings.add("Failed to load loottables/" + file.file.getName() + ": " + reason);
         } else {
-            this.rosePlugin.getLogger().warning("Failed to load loottables/" + file.getName());
+            file.warnings.add("Failed to load loottables/" + file.file.getName());
         }
     }
 
+    /**
+     * The LootTables that can pass in a world
+     *
+     * @param disabled true if the plugin is disabled in the world
+     * @param lootTableIndexes The indexes of the LootTables that can pass in the world, only contains LootTableTypes that have any
+     */
+    private record WorldLootTables(boolean disabled, Map<LootTableType, LootTableIndex> lootTableIndexes) { }
+
+    /**
+     * A loot table file along with what was loaded from it. Warnings are kept to be logged again while the file is unchanged.
+     */
+    private static final class LootTableFile {
+
+        private final File file;
+        private final long size, lastModified;
+        private final String hash;
+        private final int generation;
+        private final List<String> warnings;
+        private LootTable lootTable;
+
+        private LootTableFile(File file, long size, long lastModified, String hash, int generation) {
+            this.file = file;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.hash = hash;
+            this.generation = generation;
+            this.warnings = new ArrayList<>();
+        }
+
+        private LootTableFile(LootTableFile previous, long size, long lastModified) {
+            this(previous.file, size, lastModified, previous.hash, previous.generation);
+            this.warnings.addAll(previous.warnings);
+            this.lootTable = previous.lootTable;
+        }
+
+    }
+
 }
@@ -24,6 +24,24 @@ public interface NumberProvider {
      */
     double getDouble(LootContext context);
 
+    /**
+     * A constant provider returns the same value for every LootContext, including a null LootContext
+     *
+     * @return true if this provider always returns the same value
+     */
+    default boolean isConstant() {
+        return false;
+    }
+
+    /**
+     * Snapshot safe providers can be evaluated off the main thread
+     *
+     * @return true if this provider never calls into other plugins or the world
+     */
+    default boolean isSnapshotSafe() {
+        return true;
+    }
+
     static NumberProvider fromString(String string) {
         if (string.endsWith("%")) {
             if (string.startsWith("%")) {
@@ -112,6 +130,11 @@ public interface NumberProvider {
             return this.value;
         }
 
+        @Override
+        public boolean isConstant() {
+            return true;
+        }
+
     }
 
     class UniformDistributionNumberProvider implements NumberProvider {
@@ -128,6 +151,11 @@ public interface NumberProvider {
             return LootUtils.randomInRange(this.min.getDouble(context), this.max.getDouble(context));
         }
 
+        @Override
+        public boolean isSnapshotSafe() {
+            return this.min.isSnapshotSafe() && this.max.isSnapshotSafe();
+        }
+
     }
 
     class BinomialDistributionNumberProvider implements NumberProvider {
@@ -141,15 +169,7 @@ public interface NumberProvider {
 
         @Override
         public int getInteger(LootContext context) {
-            int n = this.n.getInteger(context);
-            double p = this.p.getDouble(context);
-            int successes = 0;
-
-            for (int i = 0; i < n; i++)
-                if (LootUtils.checkChance(p))
-                    successes++;
-
-            return successes;
+            return LootUtils.randomBinomial(this.n.getInteger(context), this.p.getDouble(context));
         }
 
         @Override
@@ -157,25 +177,35 @@ public interface NumberProvider {
             return this.getInteger(context);
         }
 
+        @Override
+        public boolean isSnapshotSafe() {
+            return this.n.isSnapshotSafe() && this.p.isSnapshotSafe();
+        }
+
     }
 
     class PlaceholderNumberProvider implements NumberProvider {
 
-        private final String placeholder;
+        private final StringTemplate placeholder;
 
         private PlaceholderNumberProvider(String placeholder) {
-            this.placeholder = placeholder;
+            this.placeholder = StringTemplate.parse(placeholder);
         }
 
         @Override
         public double getDouble(LootContext context) {
             try {
-                return Double.parseDouble(context.applyPlaceholders(this.placeholder));
+                return Double.parseDouble(this.placeholder.apply(context));
             } catch (NumberFormatException e) {
                 return 0;
             }
         }
 
+        @Override
+        public boolean isSnapshotSafe() {
+            return false; // May be resolved by PlaceholderAPI
+        }
+
     }
 
 }
@@ -45,6 +45,20 @@ public interface StringProvider {
         return this.getList(context).stream().map(HexUtils::colorify).toList();
     }
 
+    /**
+     * @return true if {@link #get(LootContext)} always returns the same string, regardless of the LootContext
+     */
+    default boolean isConstant() {
+        return false;
+    }
+
+    /**
+     * @return true if {@link #getList(LootContext)} always returns the same strings, regardless of the LootContext
+     */
+    default boolean isConstantList() {
+        return this.isConstant();
+    }
+
     static StringProvider fromString(String string) {
         return new ConstantStringProvider(string);
     }
@@ -79,20 +93,35 @@ public interface StringProvider {
 
     class ConstantStringProvider implements StringProvider {
 
-        private final String value;
+        private final StringTemplate value;
 
         private ConstantStringProvider(String value) {
-            this.value = value;
+            this.value = StringTemplate.parse(value);
         }
 
         @Override
         public String get(LootContext context) {
-            return context.applyPlaceholders(this.value);
+            return this.value.apply(context);
+        }
+
+        @Override
+        public String getFormatted(LootContext context) {
+            return this.value.format(context);
         }
 
         @Override
         public List<String> getList(LootContext context) {
-            return List.of(context.applyPlaceholders(this.value));
+            return List.of(this.value.apply(context));
+        }
+
+        @Override
+        public List<String> getListFormatted(LootContext context) {
+            return List.of(this.value.format(context));
+        }
+
+        @Override
+        public boolean isConstant() {
+            return this.value.isLiteral();
         }
 
     }
@@ -111,12 +140,42 @@ public interface StringProvider {
                 return "";
 
             StringProvider value = this.values.get(LootUtils.RANDOM.nextInt(this.values.size()));
-            return context.applyPlaceholders(value.get(context));
+            return value.get(context);
+        }
+
+        @Override
+        public String getFormatted(LootContext context) {
+            if (this.values.isEmpty())
+                return "";
+
+            StringProvider value = this.values.get(LootUtils.RANDOM.nextInt(this.values.size()));
+            return value.getFormatted(context);
         }
 
         @Override
         public List<String> getList(LootContext context) {
-            return this.values.stream().map(x -> x.get(context)).map(context::applyPlaceholders).toList();
+            List<String> strings = new ArrayList<>(this.values.size());
+            for (StringProvider value : this.values)
+                strings.add(value.get(context));
+            return strings;
+        }
+
+        @Override
+        public List<String> getListFormatted(LootContext context) {
+            List<String> strings = new ArrayList<>(this.values.size());
+            for (StringProvider value : this.values)
+                strings.add(value.getFormatted(context));
+            return strings;
+        }
+
+        @Override
+        public boolean isConstant() {
+            return this.values.size() <= 1 && this.isConstantList(); // A random value is picked if there are multiple
+        }
+
+        @Override
+        public boolean isConstantList() {
+            return this.values.stream().allMatch(StringProvider::isConstant);
         }
 
     }
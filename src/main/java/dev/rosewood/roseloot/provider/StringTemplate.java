@@ -0,0 +1,146 @@
+package dev.rosewood.roseloot.provider;
+
+import dev.rosewood.rosegarden.hook.PlaceholderAPIHook;
+import dev.rosewood.rosegarden.utils.HexUtils;
+import dev.rosewood.roseloot.loot.LootPlaceholders;
+import dev.rosewood.roseloot.loot.context.LootContext;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A string parsed once into literal and placeholder segments so it can be rendered in a single pass.
+ * <br>
+ * Placeholders are first looked up in the {@link LootPlaceholders} of the LootContext, any that are left unresolved
+ * are passed on to PlaceholderAPI. Strings without any placeholders are returned as-is and only colorized once.
+ */
+public final class StringTemplate {
+
+    private static final char DELIMITER = '%';
+
+    private final String source;
+    private final Segment[] segments;
+    private String colorized;
+
+    private StringTemplate(String source, Segment[] segments) {
+        this.source = source;
+        this.segments = segments;
+    }
+
+    /**
+     * Renders this template with placeholders applied
+     *
+     * @param context The LootContext
+     * @return the rendered string
+     */
+    public String apply(LootContext context) {
+        if (this.segments == null)
+            return this.source;
+
+        LootPlaceholders placeholders = context.getPlaceholders();
+        StringBuilder builder = new StringBuilder(this.source.length() + 16);
+        boolean unresolved = false;
+        for (Segment segment : this.segments) {
+            switch (segment.type()) {
+                case LITERAL -> builder.append(segment.value());
+                case PLACEHOLDER -> {
+                    String value = placeholders.getFormatted(segment.value());
+                    if (value != null) {
+                        builder.append(value);
+                    } else {
+                        builder.append(DELIMITER).append(segment.value()).append(DELIMITER);
+                        unresolved = true;
+                    }
+                }
+                case EXTERNAL_PLACEHOLDER -> {
+                    builder.append(DELIMITER).append(segment.value()).append(DELIMITER);
+                    unresolved = true;
+                }
+            }
+        }
+
+        String rendered = builder.toString();
+        if (!unresolved)
+            return rendered;
+
+        return PlaceholderAPIHook.applyPlaceholders(context.getLootingPlayer().orElse(null), rendered);
+    }
+
+    /**
+     * Renders this template with placeholders and colors applied
+     *
+     * @param context The LootContext
+     * @return the rendered and colorized string
+     */
+    public String format(LootContext context) {
+        if (this.segments == null) {
+            if (this.colorized == null)
+                this.colorized = HexUtils.colorify(this.source);
+            return this.colorized;
+        }
+
+        return HexUtils.colorify(this.apply(context));
+    }
+
+    /**
+     * @return the string this template was parsed from
+     */
+    public String getSource() {
+        return this.source;
+    }
+
+    /**
+     * @return true if this template contains no placeholders
+     */
+    public boolean isLiteral() {
+        return this.segments == null;
+    }
+
+    /**
+     * Parses a string into a template
+     *
+     * @param string The string to parse
+     * @return the parsed template
+     */
+    public static StringTemplate parse(String string) {
+        List<Segment> segments = new ArrayList<>();
+        int copied = 0;
+        int start = string.indexOf(DELIMITER);
+        while (start != -1) {
+            int end = string.indexOf(DELIMITER, start + 1);
+            if (end == -1)
+                break;
+
+            String key = string.substring(start + 1, end);
+            if (key.isEmpty() || key.chars().anyMatch(Character::isWhitespace)) {
+                start = end; // Not a placeholder, the closing delimiter may be the start of one though
+                continue;
+            }
+
+            if (start > copied)
+                segments.add(new Segment(SegmentType.LITERAL, string.substring(copied, start)));
+
+            // Loot placeholder keys are always lowercase, anything else can only be resolved by PlaceholderAPI
+            SegmentType type = key.equals(key.toLowerCase()) ? SegmentType.PLACEHOLDER : SegmentType.EXTERNAL_PLACEHOLDER;
+            segments.add(new Segment(type, key));
+            copied = end + 1;
+            start = string.indexOf(DELIMITER, copied);
+        }
+
+        if (segments.isEmpty())
+            return new StringTemplate(string, null);
+
+        if (copied < string.length())
+            segments.add(new Segment(SegmentType.LITERAL, string.substring(copied)));
+
+        return new StringTemplate(string, segments.toArray(Segment[]::new));
+    }
+
+    private enum SegmentType {
+        LITERAL,
+        PLACEHOLDER,
+        EXTERNAL_PLACEHOLDER
+    }
+
+    private record Segment(SegmentType type, String value) { }
+
+}
@@ -0,0 +1,146 @@
+package dev.rosewood.roseloot.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks weighted elements in constant time using Vose's alias method.
+ * Unlike {@link RandomCollection}, the weights are fixed when the sampler is created.
+ *
+ * @param <T> The element type
+ */
+public class AliasSampler<T> {
+
+    private final Object[] elements;
+    private final double[] chances;
+    private final double[] probabilities;
+    private final int[] aliases;
+
+    /**
+     * Creates a new AliasSampler, elements with a weight of zero or less will never be picked
+     *
+     * @param elements The elements to pick from
+     * @param weights The weight of each element
+     */
+    public AliasSampler(List<T> elements, double[] weights) {
+        if (elements.size() != weights.length)
+            throw new IllegalArgumentException("Elements and weights must be the same length");
+
+        List<T> included = new ArrayList<>();
+        List<Double> includedWeights = new ArrayList<>();
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] > 0) {
+                included.add(elements.get(i));
+                includedWeights.add(weights[i]);
+                total += weights[i];
+            }
+        }
+
+        int size = included.size();
+        this.elements = included.toArray();
+        this.chances = new double[size];
+        for (int i = 0; i < size; i++)
+            this.chances[i] = includedWeights.get(i) / total;
+        this.probabilities = new double[size];
+        this.aliases = new int[size];
+
+        double[] scaled = new double[size];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < size; i++) {
+            scaled[i] = includedWeights.get(i) * size / total;
+            if (scaled[i] < 1) {
+                small.push(i);
+            } else {
+                large.push(i);
+            }
+        }
+
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            this.probabilities[less] = scaled[less];
+            this.aliases[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small.push(more);
+            } else {
+                large.push(more);
+            }
+        }
+
+        // Anything left over is only off from 1 due to floating point error
+        while (!large.isEmpty())
+            this.probabilities[large.pop()] = 1;
+        while (!small.isEmpty())
+            this.probabilities[small.pop()] = 1;
+    }
+
+    /**
+     * @return a random element, picked according to the weights, or null if there are no elements to pick from
+     */
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (this.elements.length == 0)
+            return null;
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = random.nextInt(this.elements.length);
+        if (random.nextDouble() >= this.probabilities[index])
+            index = this.aliases[index];
+        return (T) this.elements[index];
+    }
+
+    /**
+     * Counts how many times each element is picked out of a number of picks, without picking each one individually.
+     * The counts follow the same distribution as calling {@link #next()} that many times.
+     *
+     * @param picks The number of picks
+     * @return the number of times each element was picked, indexed the same as {@link #get(int)}
+     */
+    public int[] nextCounts(int picks) {
+        int[] counts = new int[this.elements.length];
+        double remainingChance = 1;
+        for (int i = 0; i < counts.length && picks > 0; i++) {
+            if (i == counts.length - 1) {
+                counts[i] = picks;
+                break;
+            }
+
+            // Each count is binomial given the picks left over from the elements before it
+            int count = LootUtils.randomBinomial(picks, this.chances[i] / remainingChance);
+            counts[i] = count;
+            picks -= count;
+            remainingChance -= this.chances[i];
+        }
+        return counts;
+    }
+
+    /**
+     * @param index The index of the element
+     * @return the element at the given index
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return (T) this.elements[index];
+    }
+
+    /**
+     * @return the number of elements that can be picked
+     */
+    public int size() {
+        return this.elements.length;
+    }
+
+    /**
+     * @return true if there are no elements that can be picked
+     */
+    public boolean isEmpty() {
+        return this.elements.length == 0;
+    }
+
+}
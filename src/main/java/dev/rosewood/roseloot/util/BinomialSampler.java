@@ -0,0 +1,172 @@
+package dev.rosewood.roseloot.util;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Samples binomially distributed values without checking each trial individually.
+ * <br>
+ * Uses inversion when the expected number of successes is small, and the BTPE rejection algorithm from Kachitvichyanukul
+ * and Schmeiser, "Binomial Random Variate Generation" (1988), which takes constant time regardless of the number of
+ * trials, when it is large.
+ */
+public final class BinomialSampler {
+
+    /**
+     * Below this expected number of successes (or failures), inversion is faster than BTPE
+     */
+    private static final double INVERSION_THRESHOLD = 30;
+
+    private BinomialSampler() {
+
+    }
+
+    /**
+     * Counts how many of a number of independent trials succeed
+     *
+     * @param trials The number of trials
+     * @param chance The chance of each trial succeeding between 0-1
+     * @return the number of successful trials
+     */
+    public static int sample(int trials, double chance) {
+        if (trials <= 0 || chance <= 0)
+            return 0;
+
+        if (chance >= 1)
+            return trials;
+
+        // Both algorithms expect a chance of at most 0.5, sample the failures instead if it is higher
+        if (chance > 0.5)
+            return trials - sample(trials, 1 - chance);
+
+        Random random = ThreadLocalRandom.current();
+        if (trials * chance < INVERSION_THRESHOLD)
+            return inversion(trials, chance, random);
+        return btpe(trials, chance, random);
+    }
+
+    /**
+     * Walks up the cumulative distribution from 0 until it passes a uniform random value
+     */
+    private static int inversion(int n, double p, Random random) {
+        double q = 1 - p;
+        double s = p / q;
+        double a = (n + 1) * s;
+        double start = Math.pow(q, n);
+        while (true) {
+            double r = start;
+            double u = random.nextDouble();
+            int x = 0;
+            while (u > r) {
+                u -= r;
+                x++;
+                if (x > n)
+                    break; // Only reachable through rounding errors, try again
+
+                r *= a / x - s;
+            }
+
+            if (x <= n)
+                return x;
+        }
+    }
+
+    /**
+     * Triangle, parallelogram, exponential rejection sampling, only valid for n * p >= 30 and p <= 0.5
+     */
+    private static int btpe(int n, double p, Random random) {
+        double q = 1 - p;
+        double nrq = n * p * q;
+        double fm = n * p + p;
+        int m = (int) fm;
+        double p1 = Math.floor(2.195 * Math.sqrt(nrq) - 4.6 * q) + 0.5;
+        double xm = m + 0.5;
+        double xl = xm - p1;
+        double xr = xm + p1;
+        double c = 0.134 + 20.5 / (15.3 + m);
+        double al = (fm - xl) / (fm - xl * p);
+        double laml = al * (1 + al / 2);
+        double ar = (xr - fm) / (xr * q);
+        double lamr = ar * (1 + ar / 2);
+        double p2 = p1 * (1 + 2 * c);
+        double p3 = p2 + c / laml;
+        double p4 = p3 + c / lamr;
+
+        while (true) {
+            double u = random.nextDouble() * p4;
+            double v = random.nextDouble();
+            int y;
+            if (u <= p1) {
+                // Triangular region, always accepted
+                return (int) Math.floor(xm - p1 * v + u);
+            } else if (u <= p2) {
+                // Parallelogram region
+                double x = xl + (u - p1) / c;
+                v = v * c + 1 - Math.abs(m - x + 0.5) / p1;
+                if (v > 1)
+                    continue;
+
+                y = (int) Math.floor(x);
+            } else if (u <= p3) {
+                // Left exponential tail
+                y = (int) Math.floor(xl + Math.log(v) / laml);
+                if (y < 0 || v == 0)
+                    continue;
+
+                v = v * (u - p2) * laml;
+            } else {
+                // Right exponential tail
+                y = (int) Math.floor(xr - Math.log(v) / lamr);
+                if (y > n || v == 0)
+                    continue;
+
+                v = v * (u - p3) * lamr;
+            }
+
+            int k = Math.abs(y - m);
+            if (k <= 20 || k >= nrq / 2 - 1) {
+                // Evaluate f(y) / f(m) explicitly using the recurrence between consecutive probabilities
+                double s = p / q;
+                double a = s * (n + 1);
+                double f = 1;
+                if (m < y) {
+                    for (int i = m + 1; i <= y; i++)
+                        f *= a / i - s;
+                } else if (m > y) {
+                    for (int i = y + 1; i <= m; i++)
+                        f /= a / i - s;
+                }
+
+                if (v <= f)
+                    return y;
+                continue;
+            }
+
+            // Squeeze using bounds on log(f(y) / f(m)) before falling back to the full test
+            double rho = (k / nrq) * ((k * (k / 3.0 + 0.625) + 1.0 / 6) / nrq + 0.5);
+            double t = -(double) k * k / (2 * nrq);
+            double logV = Math.log(v);
+            if (logV < t - rho)
+                return y;
+
+            if (logV > t + rho)
+                continue;
+
+            // Final acceptance test using Stirling's approximation
+            double x1 = y + 1;
+            double f1 = m + 1;
+            double z = n + 1 - m;
+            double w = n - y + 1;
+            double bound = xm * Math.log(f1 / x1) + (n - m + 0.5) * Math.log(z / w) + (y - m) * Math.log(w * p / (x1 * q))
+                    + stirlingCorrection(f1) + stirlingCorrection(z) + stirlingCorrection(x1) + stirlingCorrection(w);
+            if (logV <= bound)
+                return y;
+        }
+    }
+
+    private static double stirlingCorrection(double x) {
+        double x2 = x * x;
+        return (13680 - (462 - (132 - (99 - 140 / x2) / x2) / x2) / x2) / x / 166320;
+    }
+
+}
@@ -0,0 +1,287 @@
+package dev.rosewood.roseloot.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+/**
+ * Stores parsed configuration files in a compact binary format, keyed by the hash of the file they were parsed from.
+ * <br>
+ * Reading a configuration back from the cache skips tokenizing and parsing the YAML, which is most of the time spent
+ * loading a file. The whole cache is discarded if it was written by a different version of the plugin.
+ * Configurations containing values other than strings, numbers, booleans, lists, and sections are never cached.
+ */
+public class ConfigurationCache {
+
+    private static final int MAGIC = 0x524C4343;
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_INT = 2;
+    private static final byte TYPE_LONG = 3;
+    private static final byte TYPE_DOUBLE = 4;
+    private static final byte TYPE_BOOLEAN = 5;
+    private static final byte TYPE_LIST = 6;
+    private static final byte TYPE_MAP = 7;
+    private static final byte TYPE_SECTION = 8;
+
+    private final File file;
+    private final String version;
+    private final Logger logger;
+    private final Map<String, byte[]> entries;
+    private volatile boolean dirty;
+
+    /**
+     * @param file The file to store the cache in
+     * @param version The version of the plugin, the cache is discarded if it doesn't match
+     * @param logger The Logger to report errors to
+     */
+    public ConfigurationCache(File file, String version, Logger logger) {
+        this.file = file;
+        this.version = version;
+        this.logger = logger;
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Loads the cache from its file, replacing any entries currently cached
+     */
+    public void load() {
+        this.entries.clear();
+        this.dirty = false;
+        if (!this.file.exists())
+            return;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(this.file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || !this.version.equals(readString(in))) {
+                this.dirty = true;
+                return;
+            }
+
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String hash = readString(in);
+                byte[] data = new byte[in.readInt()];
+                in.readFully(data);
+                this.entries.put(hash, data);
+            }
+        } catch (IOException | RuntimeException e) {
+            this.logger.warning("Discarding unreadable cache " + this.file.getName() + ": " + e.getMessage());
+            this.entries.clear();
+            this.dirty = true;
+        }
+    }
+
+    /**
+     * Writes the cache to its file if it has changed since it was loaded or last saved
+     */
+    public void save() {
+        if (!this.dirty)
+            return;
+
+        this.dirty = false;
+        Map<String, byte[]> entries = new HashMap<>(this.entries);
+        File parent = this.file.getParentFile();
+        if (parent != null && !parent.exists())
+            parent.mkdirs();
+
+        // Write to a temporary file first so a crash while saving never leaves a corrupt cache behind
+        File temporaryFile = new File(parent, this.file.getName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            writeString(out, this.version);
+            out.writeInt(entries.size());
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                writeString(out, entry.getKey());
+                out.writeInt(entry.getValue().length);
+                out.write(entry.getValue());
+            }
+        } catch (IOException e) {
+            this.logger.log(Level.WARNING, "Failed to save cache " + this.file.getName(), e);
+            return;
+        }
+
+        try {
+            Files.move(temporaryFile.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            this.logger.log(Level.WARNING, "Failed to save cache " + this.file.getName(), e);
+        }
+    }
+
+    /**
+     * Gets a cached configuration
+     *
+     * @param hash The hash of the file the configuration was parsed from
+     * @return a new copy of the cached configuration, or null if it isn't cached
+     */
+    public ConfigurationSection get(String hash) {
+        byte[] data = this.entries.get(hash);
+        if (data == null)
+            return null;
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            YamlConfiguration configuration = new YamlConfiguration();
+            readSection(in, configuration);
+            return configuration;
+        } catch (IOException | RuntimeException e) {
+            this.entries.remove(hash);
+            this.dirty = true;
+            return null;
+        }
+    }
+
+    /**
+     * Caches a configuration, does nothing if it contains values that can't be cached
+     *
+     * @param hash The hash of the file the configuration was parsed from
+     * @param configuration The parsed configuration
+     */
+    public void put(String hash, ConfigurationSection configuration) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeSection(out, configuration);
+        } catch (IOException | IllegalArgumentException e) {
+            return;
+        }
+
+        this.entries.put(hash, bytes.toByteArray());
+        this.dirty = true;
+    }
+
+    /**
+     * Removes all cached configurations except the given ones
+     *
+     * @param hashes The hashes of the configurations to keep
+     */
+    public void retain(Set<String> hashes) {
+        if (this.entries.keySet().retainAll(hashes))
+            this.dirty = true;
+    }
+
+    private static void writeSection(DataOutputStream out, ConfigurationSection section) throws IOException {
+        Set<String> keys = section.getKeys(false);
+        out.writeInt(keys.size());
+        for (String key : keys) {
+            writeString(out, key);
+            Object value = section.get(key);
+            if (value instanceof ConfigurationSection childSection) {
+                out.writeByte(TYPE_SECTION);
+                writeSection(out, childSection);
+            } else {
+                writeValue(out, value);
+            }
+        }
+    }
+
+    private static void readSection(DataInputStream in, ConfigurationSection section) throws IOException {
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            String key = readString(in);
+            byte type = in.readByte();
+            if (type == TYPE_SECTION) {
+                readSection(in, section.createSection(key));
+            } else {
+                section.set(key, readValue(in, type));
+            }
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof String string) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, string);
+        } else if (value instanceof Integer integer) {
+            out.writeByte(TYPE_INT);
+            out.writeInt(integer);
+        } else if (value instanceof Long longValue) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong(longValue);
+        } else if (value instanceof Double doubleValue) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble(doubleValue);
+        } else if (value instanceof Boolean booleanValue) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean(booleanValue);
+        } else if (value instanceof List<?> list) {
+            out.writeByte(TYPE_LIST);
+            out.writeInt(list.size());
+            for (Object element : list)
+                writeValue(out, element);
+        } else if (value instanceof Map<?, ?> map) {
+            out.writeByte(TYPE_MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(out, String.valueOf(entry.getKey()));
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported value type " + value.getClass().getName());
+        }
+    }
+
+    private static Object readValue(DataInputStream in, byte type) throws IOException {
+        return switch (type) {
+            case TYPE_NULL -> null;
+            case TYPE_STRING -> readString(in);
+            case TYPE_INT -> in.readInt();
+            case TYPE_LONG -> in.readLong();
+            case TYPE_DOUBLE -> in.readDouble();
+            case TYPE_BOOLEAN -> in.readBoolean();
+            case TYPE_LIST -> {
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++)
+                    list.add(readValue(in, in.readByte()));
+                yield list;
+            }
+            case TYPE_MAP -> {
+                int size = in.readInt();
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    String key = readString(in);
+                    map.put(key, readValue(in, in.readByte()));
+                }
+                yield map;
+            }
+            default -> throw new IOException("Unknown value type " + type);
+        };
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
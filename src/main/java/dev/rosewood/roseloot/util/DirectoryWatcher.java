@@ -0,0 +1,138 @@
+package dev.rosewood.roseloot.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches a directory and all of its subdirectories for changes on a background thread.
+ * <br>
+ * Changes are debounced, the changed files are only passed on once no further changes have happened for the debounce
+ * time. Editors often write a file several times when saving it, this makes sure it is only handled once.
+ */
+public class DirectoryWatcher {
+
+    private final File directory;
+    private final List<String> excludedDirectories;
+    private final long debounceMillis;
+    private final Consumer<Set<File>> changeHandler;
+    private final Logger logger;
+    private final Map<WatchKey, Path> watchedDirectories;
+    private WatchService watchService;
+    private Thread thread;
+
+    /**
+     * @param directory The directory to watch
+     * @param excludedDirectories The names of subdirectories to ignore
+     * @param debounceMillis How long to wait for more changes before passing them on, in milliseconds
+     * @param changeHandler Handles the changed files and directories, called on the watcher thread
+     * @param logger The Logger to report errors to
+     */
+    public DirectoryWatcher(File directory, List<String> excludedDirectories, long debounceMillis, Consumer<Set<File>> changeHandler, Logger logger) {
+        this.directory = directory;
+        this.excludedDirectories = excludedDirectories;
+        this.debounceMillis = debounceMillis;
+        this.changeHandler = changeHandler;
+        this.logger = logger;
+        this.watchedDirectories = new HashMap<>();
+    }
+
+    /**
+     * Starts watching the directory
+     *
+     * @throws IOException if the directory could not be watched
+     */
+    public void start() throws IOException {
+        if (this.thread != null)
+            return;
+
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.register(this.directory.toPath());
+
+        this.thread = new Thread(this::run, "RoseLoot Directory Watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Stops watching the directory, any pending changes are discarded
+     */
+    public void stop() {
+        if (this.thread == null)
+            return;
+
+        try {
+            this.watchService.close();
+        } catch (IOException ignored) { }
+
+        this.thread.interrupt();
+        this.thread = null;
+    }
+
+    private void run() {
+        Set<File> changes = new LinkedHashSet<>();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                // Wait indefinitely for the first change, then only as long as the debounce time for more
+                WatchKey key = changes.isEmpty() ? this.watchService.take() : this.watchService.poll(this.debounceMillis, TimeUnit.MILLISECONDS);
+                if (key == null) {
+                    this.changeHandler.accept(Set.copyOf(changes));
+                    changes.clear();
+                    continue;
+                }
+
+                Path parent = this.watchedDirectories.get(key);
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (parent == null || event.kind() == StandardWatchEventKinds.OVERFLOW)
+                        continue;
+
+                    Path path = parent.resolve((Path) event.context());
+                    if (path.toFile().isDirectory()) {
+                        if (this.excludedDirectories.contains(path.getFileName().toString()))
+                            continue;
+
+                        if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE)
+                            this.register(path);
+                    }
+
+                    changes.add(path.toFile());
+                }
+
+                if (!key.reset())
+                    this.watchedDirectories.remove(key);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ignored) {
+            // Stopped
+        } catch (Exception e) {
+            this.logger.log(Level.WARNING, "Stopped watching " + this.directory.getName() + " for changes", e);
+        }
+    }
+
+    private void register(Path path) throws IOException {
+        this.watchedDirectories.put(path.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE), path);
+
+        File[] files = path.toFile().listFiles();
+        if (files == null)
+            return;
+
+        for (File file : files)
+            if (file.isDirectory() && !this.excludedDirectories.contains(file.getName()))
+                this.register(file.toPath());
+    }
+
+}
@@ -52,6 +52,8 @@ public final class LootUtils {
         DECIMAL_FORMAT_SYMBOLS.setDecimalSeparator('.');
     }
 
+    private static final ThreadLocal<Map<Integer, DecimalFormat>> DECIMAL_FORMATS = ThreadLocal.withInitial(HashMap::new); // DecimalFormat is not thread safe
+
     private LootUtils() {
 
     }
@@ -99,6 +101,17 @@ public final class LootUtils {
         return RANDOM.nextDouble() <= chance;
     }
 
+    /**
+     * Counts how many of a number of independent chances between 0-1 pass
+     *
+     * @param trials The number of chances to check
+     * @param chance The chance
+     * @return the number of chances that passed
+     */
+    public static int randomBinomial(int trials, double chance) {
+        return BinomialSampler.sample(trials, chance);
+    }
+
     /**
      * Check if a durability decrease by 1 should be ignored
      *
@@ -258,8 +271,11 @@ public final class LootUtils {
     }
 
     public static String getToMaximumDecimals(double value, int decimals) {
-        DecimalFormat decimalFormat = new DecimalFormat("0." + new String(new char[decimals]).replace('\0', '#'), DECIMAL_FORMAT_SYMBOLS);
-        decimalFormat.setGroupingUsed(false);
+        DecimalFormat decimalFormat = DECIMAL_FORMATS.get().computeIfAbsent(decimals, x -> {
+            DecimalFormat format = new DecimalFormat("0." + new String(new char[x]).replace('\0', '#'), DECIMAL_FORMAT_SYMBOLS);
+            format.setGroupingUsed(false);
+            return format;
+        });
         return decimalFormat.format(value);
     }
 
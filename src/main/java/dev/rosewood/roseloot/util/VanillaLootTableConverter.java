@@ -5,11 +5,12 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import dev.rosewood.roseloot.RoseLoot;
+import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
@@ -19,6 +20,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Pattern;
 import net.md_5.bungee.api.chat.TextComponent;
 import net.md_5.bungee.chat.ComponentSerializer;
@@ -30,6 +32,8 @@ import org.bukkit.map.MapView;
 @SuppressWarnings("deprecation")
 public final class VanillaLootTableConverter {
 
+    private static final int CONVERTER_VERSION = 1;
+    private static final String STAMP_FILE_NAME = ".converted";
     private static final String OR_PATTERN = "||";
     private static final String AND_PATTERN = "&&";
 
@@ -43,20 +47,65 @@ public final class VanillaLootTableConverter {
             "# ###################################################################################### #"
     };
 
-    public static void convertVanilla(File destination) {
+    private static CompletableFuture<Void> conversion;
+
+    /**
+     * Converts the vanilla loot tables into example files on other threads, files that already exist are skipped.
+     * Once every loot table has been converted, a stamp file is written and conversion is skipped entirely until the
+     * server version or the converter changes.
+     *
+     * @param destination The directory to put the vanilla directory with the converted files in
+     * @return a future that completes once the conversion is done
+     */
+    public static synchronized CompletableFuture<Void> convertVanilla(File destination) {
+        if (conversion != null && !conversion.isDone())
+            return conversion;
+
         File vanillaDirectory = new File(destination, "vanilla");
-        vanillaDirectory.mkdirs();
+        File stampFile = new File(vanillaDirectory, STAMP_FILE_NAME);
+        String stamp = Bukkit.getBukkitVersion() + "|" + CONVERTER_VERSION;
+        if (stamp.equals(readStamp(stampFile)))
+            return CompletableFuture.completedFuture(null);
+
+        conversion = CompletableFuture.runAsync(() -> {
+            vanillaDirectory.mkdirs();
+
+            List<String> paths = new ArrayList<>();
+            for (LootTables lootTables : LootTables.values())
+                if (lootTables != LootTables.EMPTY)
+                    paths.add(lootTables.getKey().getKey());
+
+            for (Material material : Material.values())
+                paths.add("blocks/" + material.name().toLowerCase());
+
+            boolean converted = paths.parallelStream()
+                    .map(path -> handleVanilla(vanillaDirectory, path))
+                    .reduce(true, Boolean::logicalAnd);
+
+            // Files that failed to convert are tried again next time
+            if (converted)
+                writeStamp(stampFile, stamp);
+        });
+        return conversion;
+    }
 
-        for (LootTables lootTables : LootTables.values()) {
-            if (lootTables == LootTables.EMPTY)
-                continue;
+    private static String readStamp(File stampFile) {
+        if (!stampFile.exists())
+            return null;
 
-            String path = lootTables.getKey().getKey();
-            handleVanilla(vanillaDirectory, path);
+        try {
+            return Files.readString(stampFile.toPath(), StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            return null;
         }
+    }
 
-        for (Material material : Material.values())
-            handleVanilla(vanillaDirectory, "blocks/" + material.name().toLowerCase());
+    private static void writeStamp(File stampFile, String stamp) {
+        try {
+            Files.writeString(stampFile.toPath(), stamp, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            RoseLoot.getInstance().getLogger().warning("Failed to write " + stampFile.getName() + ", vanilla loot tables will be checked again on the next reload: " + e.getMessage());
+        }
     }
 
     public static void convertDirectory(File directory, File destination) {
@@ -81,28 +130,30 @@ public final class VanillaLootTableConverter {
         }
     }
 
-    private static void handleVanilla(File directory, String path) {
+    private static boolean handleVanilla(File directory, String path) {
         File destination = new File(directory, path + ".yml");
         if (destination.exists())
-            return;
+            return true;
 
         try (InputStream inputStream = Bukkit.class.getClassLoader().getResourceAsStream("data/minecraft/loot_tables/" + path + ".json")) {
             if (inputStream == null)
-                return;
+                return true;
 
             handleInputStream(destination, inputStream, path, true);
-        } catch (IOException e) {
+            return true;
+        } catch (Exception e) {
             e.printStackTrace();
+            return false;
         }
     }
 
     private static void handleInputStream(File destination, InputStream inputStream, String path, boolean includeWarning) throws IOException {
-        JsonElement json = new JsonParser().parse(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        JsonElement json = new JsonParser().parse(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
 
         destination.getParentFile().mkdirs();
         destination.createNewFile();
 
-        try (FileWriter fileWriter = new FileWriter(destination, StandardCharsets.UTF_8)) {
+        try (Writer fileWriter = Files.newBufferedWriter(destination.toPath(), StandardCharsets.UTF_8)) {
             IndentedFileWriter writer = new IndentedFileWriter(fileWriter);
 
             // Write warning header
@@ -994,10 +1045,10 @@ public final class VanillaLootTableConverter {
 
     private static class IndentedFileWriter {
 
-        private final FileWriter fileWriter;
+        private final Writer fileWriter;
         private int indentation;
 
-        public IndentedFileWriter(FileWriter fileWriter) {
+        public IndentedFileWriter(Writer fileWriter) {
             this.fileWriter = fileWriter;
             this.indentation = 0;
         }
@@ -1008,7 +1059,9 @@ public final class VanillaLootTableConverter {
          * @param line The line to write
          */
         public void write(String line) throws IOException {
-            this.fileWriter.write(new String(new char[this.indentation]).replace('\0', ' ') + line + '\n');
+            this.fileWriter.write(" ".repeat(this.indentation));
+            this.fileWriter.write(line);
+            this.fileWriter.write('\n');
         }
 
         public void increaseIndentation() {